@@ -0,0 +1,95 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
+import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+import com.statusreserv.reservations.service.availability.AvailabilityServiceImpl;
+import com.statusreserv.reservations.service.availability.AvailabilityVersion;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks availability computation for synthetic tenants of varying size.
+ *
+ * <p>The {@code warm} benchmarks reuse an {@link AvailabilityIndex} that already holds the
+ * range, as steady-state widget traffic does; the {@code cold} benchmark builds a new index on
+ * every invocation and therefore includes loading and grouping the reservations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityBenchmark {
+
+    @Param({"7", "60", "180"})
+    private int rangeDays;
+
+    @Param({"1", "3"})
+    private int windowsPerDay;
+
+    @Param({"0", "20", "200"})
+    private int reservationsPerDay;
+
+    @Param({"15", "60"})
+    private int durationMinutes;
+
+    private SyntheticTenant tenant;
+    private AvailabilityServiceImpl warmService;
+    private List<LocalDate> dates;
+    private Map<LocalDate, List<TimeRangeDTO>> periods;
+
+    @Setup
+    public void setUp() {
+        tenant = new SyntheticTenant(rangeDays, windowsPerDay, reservationsPerDay);
+        dates = tenant.dates;
+        warmService = service(tenant.newIndex());
+        periods = warmService.getPeriods(dates);
+        warmService.getAvailableTimeSlots(periods, durationMinutes);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<TimeRangeDTO>> periodsWarm() {
+        return warmService.getPeriods(dates);
+    }
+
+    @Benchmark
+    public Set<TimeSlotDTO> availableTimeSlotsWarm() {
+        return warmService.getAvailableTimeSlots(periods, durationMinutes);
+    }
+
+    @Benchmark
+    public Set<TimeSlotDTO> availableTimeSlotsCold() {
+        var service = service(tenant.newIndex());
+        try {
+            return service.getAvailableTimeSlots(service.getPeriods(dates), durationMinutes);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private AvailabilityServiceImpl service(AvailabilityIndex index) {
+        return new AvailabilityServiceImpl(
+                mock(ServiceProvidedService.class, withSettings().stubOnly()),
+                tenant.currentUserService,
+                index,
+                new AvailabilityVersion(Duration.ofMinutes(5), 100, Duration.ofMinutes(30)),
+                mock(ServiceProvidedMapper.class, withSettings().stubOnly()),
+                new SimpleMeterRegistry(),
+                0
+        );
+    }
+}
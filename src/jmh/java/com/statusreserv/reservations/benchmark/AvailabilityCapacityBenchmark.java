@@ -0,0 +1,72 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
+import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
+import com.statusreserv.reservations.service.availability.AvailabilityServiceImpl;
+import com.statusreserv.reservations.service.availability.AvailabilityVersion;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks availability computation for tenants with several parallel resources.
+ *
+ * <p>A capacity of one takes the single-resource bitmap path and serves as the baseline; higher
+ * capacities count the reservations of every minute. The index is warm, so only the slot
+ * computation is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityCapacityBenchmark {
+
+    @Param({"28", "90"})
+    private int rangeDays;
+
+    @Param({"1", "5", "20"})
+    private int capacity;
+
+    @Param({"20", "200"})
+    private int reservationsPerDay;
+
+    @Param({"30"})
+    private int durationMinutes;
+
+    private AvailabilityServiceImpl service;
+    private Map<LocalDate, List<TimeRangeDTO>> periods;
+
+    @Setup
+    public void setUp() {
+        var tenant = new SyntheticTenant(rangeDays, 1, reservationsPerDay).withCapacity(capacity);
+        service = new AvailabilityServiceImpl(
+                mock(ServiceProvidedService.class, withSettings().stubOnly()),
+                tenant.currentUserService,
+                tenant.newIndex(),
+                new AvailabilityVersion(Duration.ofMinutes(5), 100, Duration.ofMinutes(30)),
+                mock(ServiceProvidedMapper.class, withSettings().stubOnly()),
+                new SimpleMeterRegistry(),
+                0
+        );
+        periods = service.getPeriods(tenant.dates);
+        service.getAvailableTimeSlots(periods, durationMinutes);
+    }
+
+    @Benchmark
+    public Set<TimeSlotDTO> availableTimeSlots() {
+        return service.getAvailableTimeSlots(periods, durationMinutes);
+    }
+}
@@ -0,0 +1,77 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
+import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
+import com.statusreserv.reservations.service.availability.AvailabilityServiceImpl;
+import com.statusreserv.reservations.service.availability.AvailabilityVersion;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares sequential and parallel per-day slot computation to locate the range length at
+ * which fanning out pays off, which is what {@code availability.parallel.threshold-days}
+ * should be set to on the target hardware.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="AvailabilityParallelBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityParallelBenchmark {
+
+    @Param({"7", "14", "30", "60", "90", "180", "365"})
+    private int rangeDays;
+
+    @Param({"sequential", "parallel"})
+    private String mode;
+
+    @Param({"20"})
+    private int reservationsPerDay;
+
+    @Param({"15"})
+    private int durationMinutes;
+
+    private AvailabilityServiceImpl service;
+    private Map<LocalDate, List<TimeRangeDTO>> periods;
+
+    @Setup
+    public void setUp() {
+        var tenant = new SyntheticTenant(rangeDays, 3, reservationsPerDay);
+        service = new AvailabilityServiceImpl(
+                mock(ServiceProvidedService.class, withSettings().stubOnly()),
+                tenant.currentUserService,
+                tenant.newIndex(),
+                new AvailabilityVersion(Duration.ofMinutes(5), 100, Duration.ofMinutes(30)),
+                mock(ServiceProvidedMapper.class, withSettings().stubOnly()),
+                new SimpleMeterRegistry(),
+                0
+        );
+        ReflectionTestUtils.setField(service, "parallelThresholdDays", "parallel".equals(mode) ? 1 : Integer.MAX_VALUE);
+
+        periods = service.getPeriods(tenant.dates);
+        service.getAvailableTimeSlots(periods, durationMinutes);
+    }
+
+    @Benchmark
+    public Set<TimeSlotDTO> availableTimeSlots() {
+        return service.getAvailableTimeSlots(periods, durationMinutes);
+    }
+}
@@ -0,0 +1,172 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closed-loop HTTP load generator used to compare request execution modes of a running instance.
+ *
+ * <p>Start the application once with {@code VIRTUAL_THREADS_ENABLED=true} and once with
+ * {@code false}, using the same database and pool size, and run the harness against each:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.statusreserv.reservations.benchmark.LoadTest \
+ *     -Dexec.args="--url=http://localhost:8080 --username=admin@example.com --password=secret \
+ *                  --concurrency=400 --duration=PT60S --label=virtual \
+ *                  /api/reservations?limit=50 \
+ *                  /api/availabilities?from=2025-11-10&amp;to=2026-02-10&amp;services=&lt;service-id&gt;"
+ * </pre>
+ *
+ * <p>Each of {@code concurrency} clients sends requests back to back, cycling through the
+ * given paths, for the warm-up and then the measured duration. Throughput, p50, p99 and the
+ * number of failed requests are printed per path for the measured part only.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = new HashMap<String, String>();
+        var paths = new ArrayList<String>();
+        for (var arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                paths.add(arg);
+            }
+        }
+        if (paths.isEmpty()) throw new IllegalArgumentException("At least one path is required");
+
+        var url = options.getOrDefault("url", "http://localhost:8080");
+        var concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        var warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        var duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        var label = options.getOrDefault("label", "run");
+
+        var client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var token = options.containsKey("token")
+                ? options.get("token")
+                : login(client, url, options.get("username"), options.get("password"));
+
+        var requests = paths.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create(url + path))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build())
+                .toList();
+
+        var recorders = new ArrayList<Recorder>();
+        var measuring = new AtomicBoolean();
+        var running = new AtomicBoolean(true);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var c = 0; c < concurrency; c++) {
+                var recorder = new Recorder(requests.size());
+                recorders.add(recorder);
+                var offset = c;
+                executor.submit(() -> {
+                    for (var i = offset; running.get(); i++) {
+                        var target = i % requests.size();
+                        var start = System.nanoTime();
+                        var ok = send(client, requests.get(target));
+                        if (measuring.get()) recorder.record(target, System.nanoTime() - start, ok);
+                    }
+                    return null;
+                });
+            }
+
+            Thread.sleep(warmup);
+            measuring.set(true);
+            Thread.sleep(duration);
+            measuring.set(false);
+            running.set(false);
+        }
+
+        System.out.printf("%-10s %-60s %12s %10s %10s %8s%n", "label", "path", "req/s", "p50 ms", "p99 ms", "errors");
+        for (var target = 0; target < paths.size(); target++) {
+            var latencies = new ArrayList<Long>();
+            var errors = 0L;
+            for (var recorder : recorders) {
+                latencies.addAll(recorder.latencies.get(target));
+                errors += recorder.errors[target];
+            }
+            Collections.sort(latencies);
+            System.out.printf("%-10s %-60s %12.1f %10.2f %10.2f %8d%n",
+                    label,
+                    paths.get(target),
+                    (latencies.size() + errors) / (double) duration.toSeconds(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    errors);
+        }
+    }
+
+    private static boolean send(HttpClient client, HttpRequest request) {
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String login(HttpClient client, String url, String username, String password) throws Exception {
+        if (username == null || password == null) {
+            throw new IllegalArgumentException("Either --token or --username and --password are required");
+        }
+        var mapper = new ObjectMapper();
+        var body = mapper.writeValueAsString(Map.of("username", username, "password", password));
+        var response = client.send(HttpRequest.newBuilder(URI.create(url + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return mapper.readTree(response.body()).get("token").asText();
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) return Double.NaN;
+        var index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    /**
+     * Latencies of a single client; only touched by its own thread until the run ends.
+     */
+    private static final class Recorder {
+        private final List<List<Long>> latencies = new ArrayList<>();
+        private final long[] errors;
+
+        private Recorder(int targets) {
+            for (var i = 0; i < targets; i++) latencies.add(new ArrayList<>());
+            errors = new long[targets];
+        }
+
+        private void record(int target, long nanos, boolean ok) {
+            if (ok) {
+                latencies.get(target).add(nanos);
+            } else {
+                errors[target]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ReservationValidator#validateReservation} against days of increasing
+ * reservation density.
+ *
+ * <p>Both an accepted and a rejected booking are measured, since rejected bookings are common
+ * on busy days. The outcome is returned so the exception path is not optimised away.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationValidatorBenchmark {
+
+    @Param({"1", "3"})
+    private int windowsPerDay;
+
+    @Param({"0", "20", "200"})
+    private int reservationsPerDay;
+
+    private ReservationValidator validator;
+    private Reservation freeBooking;
+    private Reservation conflictingBooking;
+
+    @Setup
+    public void setUp() {
+        var tenant = new SyntheticTenant(1, windowsPerDay, reservationsPerDay);
+        validator = new ReservationValidator(tenant.reservationRepository, tenant.scheduleRepository);
+
+        var date = SyntheticTenant.FIRST_DATE;
+        freeBooking = tenant.newReservation(date, LocalTime.of(8, 0), 15);
+        conflictingBooking = tenant.reservations.isEmpty()
+                ? tenant.newReservation(date, LocalTime.of(21, 0), 30)
+                : tenant.newReservation(date, tenant.reservations.getFirst().getStartTime(), 30);
+    }
+
+    @Benchmark
+    public Object validateFreeBooking() {
+        return validate(freeBooking);
+    }
+
+    @Benchmark
+    public Object validateConflictingBooking() {
+        return validate(conflictingBooking);
+    }
+
+    private Object validate(Reservation reservation) {
+        try {
+            validator.validateReservation(reservation, null);
+            return reservation;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
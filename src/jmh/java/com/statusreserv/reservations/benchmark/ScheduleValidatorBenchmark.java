@@ -0,0 +1,47 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.service.schedule.ScheduleValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ScheduleValidator#validateSchedule} for tenants with an increasing
+ * number of opening windows per day.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleValidatorBenchmark {
+
+    @Param({"1", "4", "12"})
+    private int windowsPerDay;
+
+    private ScheduleValidator validator;
+    private Schedule incoming;
+
+    @Setup
+    public void setUp() {
+        var tenant = new SyntheticTenant(1, windowsPerDay, 0);
+        validator = new ScheduleValidator(tenant.scheduleRepository);
+
+        incoming = new Schedule();
+        incoming.setTenant(tenant.tenant);
+        incoming.setDayOfWeek(DayOfWeek.MONDAY);
+        incoming.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(21, 0), LocalTime.of(22, 0))));
+    }
+
+    @Benchmark
+    public Schedule validateSchedule() {
+        validator.validateSchedule(incoming, null);
+        return incoming;
+    }
+}
@@ -0,0 +1,180 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Deterministic synthetic tenant used by the benchmarks.
+ *
+ * <p>The tenant opens every day of the week between 08:00 and 20:00, split into
+ * {@code windowsPerDay} equal windows separated by 30 minute breaks. Each date in the range
+ * holds {@code reservationsPerDay} reservations of 30 minutes spread over the opening windows;
+ * when the day is too small for them, reservations overlap as they would for a tenant with
+ * several parallel resources.
+ *
+ * <p>Repositories and the current user are stub-only Mockito mocks answering from memory,
+ * so benchmarks measure the services rather than the database. The overlap probe in
+ * particular is answered by a scan here; its cost in PostgreSQL is that of one GiST lookup.
+ */
+final class SyntheticTenant {
+
+    static final LocalDate FIRST_DATE = LocalDate.of(2025, 11, 10);
+
+    private static final int OPEN_MINUTE = 8 * 60;
+    private static final int CLOSE_MINUTE = 20 * 60;
+    private static final int BREAK_MINUTES = 30;
+    private static final int RESERVATION_MINUTES = 30;
+
+    final Tenant tenant = new Tenant();
+    final List<Schedule> schedules = new ArrayList<>();
+    final List<Reservation> reservations = new ArrayList<>();
+    final List<LocalDate> dates = new ArrayList<>();
+
+    final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class, withSettings().stubOnly());
+    final ReservationRepository reservationRepository = mock(ReservationRepository.class, withSettings().stubOnly());
+    final CurrentUserService currentUserService = mock(CurrentUserService.class, withSettings().stubOnly());
+
+    SyntheticTenant(int rangeDays, int windowsPerDay, int reservationsPerDay) {
+        tenant.setId(new UUID(0, 42));
+
+        var windows = windows(windowsPerDay);
+        for (var day : DayOfWeek.values()) {
+            var schedule = new Schedule();
+            schedule.setId(new UUID(1, day.getValue()));
+            schedule.setTenant(tenant);
+            schedule.setDayOfWeek(day);
+            schedule.setScheduleTime(new HashSet<>(windows));
+            schedules.add(schedule);
+        }
+
+        var random = new Random(rangeDays * 31L + reservationsPerDay);
+        for (var i = 0; i < rangeDays; i++) {
+            var date = FIRST_DATE.plusDays(i);
+            dates.add(date);
+            for (var r = 0; r < reservationsPerDay; r++) {
+                var window = windows.get(r % windows.size());
+                var windowMinutes = minute(window.getCloseTime()) - minute(window.getOpenTime());
+                var slots = Math.max(1, windowMinutes / RESERVATION_MINUTES);
+                var start = window.getOpenTime().plusMinutes((long) random.nextInt(slots) * RESERVATION_MINUTES);
+                reservations.add(reservation(date, start, start.plusMinutes(RESERVATION_MINUTES)));
+            }
+        }
+
+        when(scheduleRepository.findByTenantId(tenant.getId())).thenReturn(schedules);
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(eq(tenant.getId()), any()))
+                .thenAnswer(invocation -> {
+                    Collection<DayOfWeek> days = invocation.getArgument(1);
+                    return schedules.stream().filter(schedule -> days.contains(schedule.getDayOfWeek())).toList();
+                });
+        when(scheduleRepository.findByTenantIdAndDayOfWeek(eq(tenant.getId()), any()))
+                .thenAnswer(invocation -> schedules.stream()
+                        .filter(schedule -> schedule.getDayOfWeek() == invocation.getArgument(1))
+                        .toList());
+        when(reservationRepository.findBusyRanges(eq(tenant.getId()), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDate from = invocation.getArgument(1);
+                    LocalDate to = invocation.getArgument(2);
+                    return reservations.stream()
+                            .filter(reservation -> !reservation.getDate().isBefore(from) && !reservation.getDate().isAfter(to))
+                            .map(reservation -> new ReservationRangeDTO(
+                                    reservation.getId(), reservation.getDate(), reservation.getStartTime(), reservation.getEndTime()
+                            ))
+                            .toList();
+                });
+        when(reservationRepository.existsOverlapping(eq(tenant.getId()), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDate date = invocation.getArgument(1);
+                    LocalTime start = invocation.getArgument(2);
+                    LocalTime end = invocation.getArgument(3);
+                    return reservations.stream().anyMatch(reservation -> reservation.getDate().equals(date)
+                            && reservation.getStartTime().isBefore(end)
+                            && reservation.getEndTime().isAfter(start));
+                });
+        when(currentUserService.getCurrentTenantId()).thenReturn(tenant.getId());
+        when(currentUserService.getCurrentTenant()).thenReturn(tenant);
+    }
+
+    /**
+     * Sets the number of parallel resources of every schedule.
+     */
+    SyntheticTenant withCapacity(int capacity) {
+        schedules.forEach(schedule -> schedule.setCapacity(capacity));
+        return this;
+    }
+
+    /**
+     * Builds an empty availability index over the tenant's repositories, large enough to
+     * hold every date of the longest benchmarked range.
+     */
+    AvailabilityIndex newIndex() {
+        return new AvailabilityIndex(scheduleRepository, reservationRepository, Duration.ofMinutes(5), 1, Duration.ofMinutes(30), 400);
+    }
+
+    /**
+     * Builds a not yet persisted reservation made of a single service.
+     */
+    Reservation newReservation(LocalDate date, LocalTime start, int durationMinutes) {
+        var reservation = reservation(date, start, start.plusMinutes(durationMinutes));
+        reservation.setId(null);
+
+        var service = new ReservationServiceProvided()
+                .withName("Synthetic service")
+                .withPrice(BigDecimal.TEN)
+                .withDurationMinutes(durationMinutes)
+                .withReservation(reservation)
+                .withTenant(tenant);
+        reservation.setReservationServices(List.of(service));
+        return reservation;
+    }
+
+    private Reservation reservation(LocalDate date, LocalTime start, LocalTime end) {
+        var reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setTenant(tenant);
+        reservation.setDate(date);
+        reservation.setStartTime(start);
+        reservation.setEndTime(end);
+        reservation.setStatus(Status.CONFIRMED);
+        return reservation;
+    }
+
+    private static List<ScheduleTime> windows(int count) {
+        var windows = new ArrayList<ScheduleTime>();
+        var length = (CLOSE_MINUTE - OPEN_MINUTE - (count - 1) * BREAK_MINUTES) / count;
+        for (var i = 0; i < count; i++) {
+            var open = OPEN_MINUTE + i * (length + BREAK_MINUTES);
+            windows.add(new ScheduleTime(time(open), time(open + length)));
+        }
+        return windows;
+    }
+
+    private static LocalTime time(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static int minute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
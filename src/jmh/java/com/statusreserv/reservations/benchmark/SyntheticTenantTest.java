@@ -0,0 +1,74 @@
+package com.statusreserv.reservations.benchmark;
+
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Checks that the synthetic tenant behind the benchmarks is reproducible and that its
+ * bookings take the paths the benchmarks claim to measure. Runs with {@code -Pbenchmarks}.
+ */
+class SyntheticTenantTest {
+
+    @Test
+    void sameParametersBuildSameTenant() {
+        var first = new SyntheticTenant(30, 3, 20);
+        var second = new SyntheticTenant(30, 3, 20);
+
+        assertThat(first.reservations).hasSize(30 * 20);
+        assertThat(first.reservations).extracting(Reservation::getDate, Reservation::getStartTime)
+                .containsExactlyElementsOf(second.reservations.stream()
+                        .map(reservation -> tuple(reservation.getDate(), reservation.getStartTime()))
+                        .toList());
+    }
+
+    @Test
+    void reservationsFallInsideOpeningWindows() {
+        var tenant = new SyntheticTenant(7, 3, 50);
+        var windows = tenant.schedules.getFirst().getScheduleTime();
+
+        assertThat(tenant.reservations).allSatisfy(reservation -> assertThat(windows).anySatisfy(window -> {
+            assertThat(reservation.getStartTime()).isAfterOrEqualTo(window.getOpenTime());
+            assertThat(reservation.getEndTime()).isBeforeOrEqualTo(window.getCloseTime());
+        }));
+    }
+
+    @Test
+    void conflictingBookingIsRejected() {
+        var tenant = new SyntheticTenant(1, 1, 20);
+        var validator = new ReservationValidator(tenant.reservationRepository, tenant.scheduleRepository);
+        var taken = tenant.reservations.getFirst();
+
+        assertThatThrownBy(() -> validator.validateReservation(
+                tenant.newReservation(SyntheticTenant.FIRST_DATE, taken.getStartTime(), 30), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void freeBookingIsAccepted() {
+        var tenant = new SyntheticTenant(1, 1, 0);
+        var validator = new ReservationValidator(tenant.reservationRepository, tenant.scheduleRepository);
+
+        assertThatCode(() -> validator.validateReservation(
+                tenant.newReservation(SyntheticTenant.FIRST_DATE, LocalTime.of(8, 0), 15), null))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void capacityLetsBookingsOverlap() {
+        var tenant = new SyntheticTenant(1, 1, 1).withCapacity(2);
+        var validator = new ReservationValidator(tenant.reservationRepository, tenant.scheduleRepository);
+        var taken = tenant.reservations.getFirst();
+
+        assertThatCode(() -> validator.validateReservation(
+                tenant.newReservation(SyntheticTenant.FIRST_DATE, taken.getStartTime(), 30), null))
+                .doesNotThrowAnyException();
+    }
+}
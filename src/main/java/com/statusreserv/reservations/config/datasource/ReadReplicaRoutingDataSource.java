@@ -0,0 +1,58 @@
+package com.statusreserv.reservations.config.datasource;
+
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the
+ * primary.
+ *
+ * <p>Read-only transactions of a tenant that changed data within the {@link ReadYourWrites}
+ * window also go to the primary, so users see their own changes. The route is decided when
+ * the connection is obtained, so this data source must be wrapped in a
+ * {@link LazyConnectionDataSourceProxy}: the transaction's read-only flag is only known once
+ * it has started, after the persistence provider asked for a connection.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Targets a connection can be routed to.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWrites.isActive(currentTenantId())) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    private UUID currentTenantId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.tenantId();
+        }
+        return null;
+    }
+}
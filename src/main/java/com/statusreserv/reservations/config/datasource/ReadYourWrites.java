@@ -0,0 +1,85 @@
+package com.statusreserv.reservations.config.datasource;
+
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
+import com.statusreserv.reservations.service.service.ServiceProvidedChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks, per tenant, how long ago the tenant's data was last changed, so that reads made
+ * shortly after a write can be sent to the primary instead of a possibly lagging replica.
+ *
+ * <p>The window opens after every committed reservation, schedule or service change and
+ * should be longer than the replication lag. Changes are only known to the instance that
+ * made them; requests served by another instance rely on the replica having caught up.
+ */
+public class ReadYourWrites {
+
+    private final long windowNanos;
+    private final Map<UUID, Long> deadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Returns whether reads of the tenant must still go to the primary.
+     *
+     * @param tenantId the tenant, or null if unknown
+     * @return true if the tenant changed data within the window
+     */
+    public boolean isActive(UUID tenantId) {
+        if (tenantId == null) return false;
+
+        var deadline = deadlines.get(tenantId);
+        if (deadline == null) return false;
+        if (System.nanoTime() - deadline < 0) return true;
+
+        deadlines.remove(tenantId, deadline);
+        return false;
+    }
+
+    /**
+     * Opens the window of a tenant.
+     *
+     * @param tenantId the tenant that changed data
+     */
+    public void markWritten(UUID tenantId) {
+        deadlines.put(tenantId, System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * Opens the window after a committed reservation change.
+     *
+     * @param event the reservation change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        markWritten(event.tenantId());
+    }
+
+    /**
+     * Opens the window after a committed schedule change.
+     *
+     * @param event the schedule change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        markWritten(event.tenantId());
+    }
+
+    /**
+     * Opens the window after a committed service change.
+     *
+     * @param event the service change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceProvidedChanged(ServiceProvidedChangedEvent event) {
+        markWritten(event.tenantId());
+    }
+}
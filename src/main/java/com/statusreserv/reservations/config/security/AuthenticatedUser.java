@@ -0,0 +1,61 @@
+package com.statusreserv.reservations.config.security;
+
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.model.user.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Lightweight, immutable principal stored in the security context of authenticated requests.
+ *
+ * <p>Holds only what request handling needs to know about the user, so it can be cached
+ * and shared between requests without keeping a JPA entity alive.
+ *
+ * @param id the user's id
+ * @param email the user's email, used as username
+ * @param role the user's role
+ * @param tenantId the id of the tenant the user belongs to
+ * @param tokenVersion the user's token version; tokens issued with an older version are revoked
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        UserRole role,
+        UUID tenantId,
+        int tokenVersion
+) implements UserDetails {
+
+    /**
+     * Builds the principal of a user entity without initialising its tenant.
+     *
+     * @param user the user entity
+     * @return the principal of the user
+     */
+    public static AuthenticatedUser of(UserAuth user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getTenant() != null ? user.getTenant().getId() : null,
+                user.getTokenVersion()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,79 @@
+package com.statusreserv.reservations.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.statusreserv.reservations.repository.UserRepository;
+import com.statusreserv.reservations.service.auth.TokensRevokedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded cache of {@link AuthenticatedUser} principals keyed by email.
+ *
+ * <p>Token validation runs on every authenticated request; caching the resolved principal
+ * avoids a user query per request. Entries expire after {@code api.security.principal-cache.ttl},
+ * which bounds how long role or tenant changes take to apply to existing tokens. Hit and
+ * miss counts are published as the {@code principals} cache metrics.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${api.security.principal-cache.ttl:PT5M}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Returns the principal of the user with the given email, loading it on a cache miss.
+     *
+     * @param email the user's email
+     * @return the principal, or empty if no such user exists
+     */
+    public Optional<AuthenticatedUser> get(String email) {
+        return Optional.ofNullable(cache.get(email, this::load));
+    }
+
+    /**
+     * Removes the cached principal of a user, forcing it to be reloaded on next use.
+     *
+     * @param email the user's email
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * Evicts the principal of a user whose tokens were revoked. Runs after commit, so a
+     * concurrent request cannot reload the old token version into the cache.
+     *
+     * @param event the revocation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTokensRevoked(TokensRevokedEvent event) {
+        evict(event.email());
+    }
+
+    private AuthenticatedUser load(String email) {
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedUser::of)
+                .orElse(null);
+    }
+}
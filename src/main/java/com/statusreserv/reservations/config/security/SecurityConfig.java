@@ -1,6 +1,8 @@
 package com.statusreserv.reservations.config.security;
 
+import com.statusreserv.reservations.model.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,9 +18,13 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import static com.statusreserv.reservations.constants.Endpoints.AUTH;
+import static com.statusreserv.reservations.constants.Endpoints.HEALTH;
+import static com.statusreserv.reservations.constants.Endpoints.LOGIN;
+import static com.statusreserv.reservations.constants.Endpoints.PROMETHEUS;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(TokenProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -30,7 +36,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers(HttpMethod.POST, AUTH + "/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, AUTH + LOGIN).permitAll()
+                        .requestMatchers(HttpMethod.GET, HEALTH, HEALTH + "/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, PROMETHEUS).hasRole(UserRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class );
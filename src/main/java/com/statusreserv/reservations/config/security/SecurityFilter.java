@@ -1,39 +1,79 @@
 package com.statusreserv.reservations.config.security;
 
-import com.statusreserv.reservations.repository.UserRepository;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * Authenticates requests carrying a bearer JWT.
+ *
+ * <p>When {@code api.security.token.claims-principal} is enabled, the principal is built from
+ * the verified token claims. Revocation is enforced by comparing the token version, role and
+ * tenant claims with the user's current ones from the {@link PrincipalCache}, so a token stops
+ * working once the user is revoked, changes role or moves tenant; disabling
+ * {@code api.security.token.check-version} makes authentication database-free at the cost of
+ * revoked tokens staying valid until they expire. Tokens without identity claims are resolved
+ * through the {@link PrincipalCache}.
+ */
 @Component
 @RequiredArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Value("${api.security.token.claims-principal:true}")
+    private boolean claimsPrincipal;
+
+    @Value("${api.security.token.check-version:true}")
+    private boolean checkVersion;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var token = recoverToken(request);
         if (token != null) {
-            var username = tokenService.validateToken(token);
-            var user = userRepository.findByEmail(username);
-            if (user.isPresent()) {
-                var authentication = new UsernamePasswordAuthenticationToken(user.get(), null, user.get().getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            tokenService.verify(token)
+                    .flatMap(this::resolvePrincipal)
+                    .ifPresent(principal -> {
+                        var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
         filterChain.doFilter(request, response);
     }
 
+    private Optional<AuthenticatedUser> resolvePrincipal(DecodedJWT jwt) {
+        if (claimsPrincipal) {
+            var principal = tokenService.getPrincipal(jwt);
+            if (principal.isPresent()) {
+                return checkVersion ? principal.filter(this::isCurrentVersion) : principal;
+            }
+        }
+        var username = jwt.getSubject();
+        if (username == null || username.isEmpty()) return Optional.empty();
+        return principalCache.get(username);
+    }
+
+    private boolean isCurrentVersion(AuthenticatedUser principal) {
+        return principalCache.get(principal.email())
+                .map(current -> current.tokenVersion() == principal.tokenVersion()
+                        && current.role() == principal.role()
+                        && Objects.equals(current.tenantId(), principal.tenantId()))
+                .orElse(false);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (authHeader == null) return null;
@@ -0,0 +1,29 @@
+package com.statusreserv.reservations.config.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Signing keys used for JWT tokens.
+ *
+ * <p>New tokens are signed with {@code secret} and carry {@code keyId} in their {@code kid}
+ * header. To rotate keys, move the current secret to {@code retiredSecrets} under its key id
+ * and configure a new secret and key id: tokens signed with a retired key remain valid until
+ * they expire, after which the retired key can be removed.
+ *
+ * <p>The secret has no default and must be provided through {@code JWT_SECRET}; the
+ * application refuses to start without it.
+ *
+ * @param secret the HMAC secret used to sign new tokens
+ * @param keyId the key id of {@code secret}
+ * @param retiredSecrets secrets by key id that are still accepted for verification only
+ */
+@ConfigurationProperties("api.security.token")
+public record TokenProperties(
+        String secret,
+        @DefaultValue("default") String keyId,
+        @DefaultValue Map<String, String> retiredSecrets
+) {
+}
@@ -1,64 +1,166 @@
 package com.statusreserv.reservations.config.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.statusreserv.reservations.model.user.UserAuth;
-import org.springframework.beans.factory.annotation.Value;
+import com.statusreserv.reservations.model.user.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service responsible for generating and validating JWT tokens.
+ *
+ * <p>Besides the subject (the user's email), tokens carry the user id, tenant id, role and
+ * token version as claims, so an authenticated principal can be built without a database lookup.
+ *
+ * <p>The signing algorithm and one verifier per configured key are built once at startup and
+ * shared between requests. Tokens are verified with the key named by their {@code kid} header,
+ * which allows rotating keys as described in {@link TokenProperties}. Validation latency is
+ * recorded in the {@code auth.token.validation} timer, tagged by outcome.
  */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TENANT_ID = "tid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private static final String ISSUER = "auth-api";
+
+    private final String keyId;
+    private final Algorithm algorithm;
+    private final Map<String, JWTVerifier> verifiers = new HashMap<>();
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public TokenService(TokenProperties properties, MeterRegistry meterRegistry) {
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            throw new IllegalStateException("api.security.token.secret must be set");
+        }
+        this.keyId = properties.keyId();
+        this.algorithm = Algorithm.HMAC256(properties.secret());
+
+        properties.retiredSecrets().forEach((id, secret) -> verifiers.put(id, buildVerifier(Algorithm.HMAC256(secret))));
+        verifiers.put(keyId, buildVerifier(algorithm));
+
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    }
 
     /**
-     * Generates a JWT token for the given user.
+     * Generates a JWT token for the given user. The tenant claim is left out for users
+     * without a tenant.
      *
-     * @param user UserAuth object containing the username
+     * @param user UserAuth object containing the username, identifiers and role
      * @return JWT token as a String
      */
     public String generateToken(UserAuth user) {
         try {
-            return JWT.create()
-                    .withIssuer("auth-api")
+            var builder = JWT.create()
+                    .withIssuer(ISSUER)
+                    .withKeyId(keyId)
                     .withSubject(user.getUsername())
-                    .withExpiresAt(getExpiration())
-                    .sign(Algorithm.HMAC256(secret));
+                    .withClaim(CLAIM_USER_ID, user.getId().toString())
+                    .withClaim(CLAIM_ROLE, user.getRole().name())
+                    .withClaim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                    .withExpiresAt(getExpiration());
+            if (user.getTenant() != null) {
+                builder.withClaim(CLAIM_TENANT_ID, user.getTenant().getId().toString());
+            }
+            return builder.sign(algorithm);
         } catch (JWTCreationException e) {
             throw new RuntimeException("Error while generating token", e);
         }
     }
 
     /**
-     * Validates a JWT token and returns the username if valid.
+     * Verifies the signature, issuer and expiration of a JWT token.
+     *
+     * <p>Tokens without a {@code kid} header were issued before key ids were introduced and
+     * are verified with the current key.
      *
-     * @param token JWT token to validate
-     * @return username if token is valid, empty string otherwise
+     * @param token JWT token to verify
+     * @return the decoded token if valid, empty otherwise
      */
-    public String validateToken(String token) {
+    public Optional<DecodedJWT> verify(String token) {
+        var start = System.nanoTime();
         try {
-            var  algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("auth-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            var decoded = JWT.decode(token);
+            var verifier = verifiers.get(decoded.getKeyId() != null ? decoded.getKeyId() : keyId);
+            if (verifier == null) {
+                invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+
+            var verified = verifier.verify(decoded);
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(verified);
         } catch (JWTVerificationException e) {
-            return "";
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds the principal carried by the claims of a verified token.
+     *
+     * @param jwt a token returned by {@link #verify(String)}
+     * @return the principal, without tenant if the token has no tenant claim, or empty if the
+     * token predates identity claims or they are malformed
+     */
+    public Optional<AuthenticatedUser> getPrincipal(DecodedJWT jwt) {
+        var userId = jwt.getClaim(CLAIM_USER_ID).asString();
+        var tenantId = jwt.getClaim(CLAIM_TENANT_ID).asString();
+        var role = jwt.getClaim(CLAIM_ROLE).asString();
+        var tokenVersion = jwt.getClaim(CLAIM_TOKEN_VERSION).asInt();
+
+        if (jwt.getSubject() == null || userId == null || role == null || tokenVersion == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new AuthenticatedUser(
+                    UUID.fromString(userId),
+                    jwt.getSubject(),
+                    UserRole.valueOf(role),
+                    tenantId != null ? UUID.fromString(tenantId) : null,
+                    tokenVersion
+            ));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
     private Instant getExpiration() {
         return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.UTC);
     }
+
+    private static JWTVerifier buildVerifier(Algorithm algorithm) {
+        return JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.token.validation")
+                .description("Time spent verifying JWT tokens")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
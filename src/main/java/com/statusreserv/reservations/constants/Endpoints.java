@@ -12,4 +12,10 @@ public final class Endpoints {
     public static final String AUTH = API + "/auth";
 
     public static final String LOGIN = "/login";
+    public static final String LOGOUT = "/logout";
+    public static final String NEXT = "/next";
+
+    public static final String ACTUATOR = "/actuator";
+    public static final String HEALTH = ACTUATOR + "/health";
+    public static final String PROMETHEUS = ACTUATOR + "/prometheus";
 }
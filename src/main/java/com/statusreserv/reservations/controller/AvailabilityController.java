@@ -1,40 +1,181 @@
 package com.statusreserv.reservations.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.statusreserv.reservations.dto.availability.AvailabilityDTO;
 import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.dto.availability.CompactAvailabilityDTO;
+import com.statusreserv.reservations.dto.availability.NextAvailabilityRequestDTO;
+import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
 import com.statusreserv.reservations.service.availability.AvailabilityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 import static com.statusreserv.reservations.constants.Endpoints.AVAILABILITY;
+import static com.statusreserv.reservations.constants.Endpoints.NEXT;
 
 /**
  * REST controller responsible for checking available reservation slots.
  *
  * <p>Provides an endpoint to calculate availability based on selected services
- * and a date range.
+ * and a date range, either as a single JSON document or streamed as NDJSON.
  */
 @RestController
 @RequestMapping(AVAILABILITY)
 @RequiredArgsConstructor
 public class AvailabilityController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String COMPACT_JSON_VALUE = "application/vnd.statusreserv.availability.compact+json";
+    private static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
     private final AvailabilityService availabilityService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Searches for available reservation slots.
      *
      * <p>The request is sent as query parameters and mapped to {@link AvailabilityRequestDTO}.
+     * Responses carry an ETag; a request whose {@code If-None-Match} matches the current tag
+     * is answered with 304 Not Modified without computing availability.
      *
      * @param request DTO containing the date range and selected service IDs
-     * @return {@link AvailabilityDTO} containing the available time slots and services
+     * @param webRequest the current request, used for conditional GET handling
+     * @return {@link AvailabilityDTO} containing the available time slots and services,
+     *         or null when 304 Not Modified has been sent
      */
     @GetMapping
-    public ResponseEntity<AvailabilityDTO> search(@ModelAttribute AvailabilityRequestDTO request) {
-        return ResponseEntity.ok(availabilityService.findAvailability(request));
+    public ResponseEntity<AvailabilityDTO> search(@ModelAttribute AvailabilityRequestDTO request, WebRequest webRequest) {
+        var etag = availabilityService.getETag(request, "json");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(availabilityService.findAvailability(request));
+    }
+
+    /**
+     * Searches for available reservation slots, returning them grouped by date as start
+     * offsets in minutes with a single slot duration.
+     *
+     * <p>Selected with {@code Accept: application/vnd.statusreserv.availability.compact+json},
+     * or {@code Accept: application/cbor} for the same document in binary form. Conditional
+     * GET works as for the default representation; each media type has its own ETag.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @param webRequest the current request, used for conditional GET handling
+     * @return {@link CompactAvailabilityDTO} containing the slot starts per date and services,
+     *         or null when 304 Not Modified has been sent
+     */
+    @GetMapping(produces = {COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<CompactAvailabilityDTO> searchCompact(@ModelAttribute AvailabilityRequestDTO request, WebRequest webRequest) {
+        var mediaType = compactMediaType(webRequest);
+        var etag = availabilityService.getETag(request, mediaType.equals(COMPACT_JSON) ? "compact-json" : "compact-cbor");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(availabilityService.findCompactAvailability(request));
+    }
+
+    /**
+     * Same as {@link #searchCompact(AvailabilityRequestDTO, WebRequest)}, for clients that
+     * cannot set the {@code Accept} header and pass {@code format=compact} instead.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @param webRequest the current request, used for conditional GET handling
+     * @return {@link CompactAvailabilityDTO} containing the slot starts per date and services,
+     *         or null when 304 Not Modified has been sent
+     */
+    @GetMapping(params = "format=compact")
+    public ResponseEntity<CompactAvailabilityDTO> searchCompactByParam(@ModelAttribute AvailabilityRequestDTO request, WebRequest webRequest) {
+        return searchCompact(request, webRequest);
+    }
+
+    /**
+     * Streams available reservation slots as newline-delimited JSON, one TimeSlotDTO per line.
+     *
+     * <p>Selected with {@code Accept: application/x-ndjson}. Slots are written as each day is
+     * computed, so long ranges are served with constant memory; the default JSON response is
+     * unchanged.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @return streamed response body
+     */
+    @GetMapping(produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@ModelAttribute AvailabilityRequestDTO request) {
+        var writer = objectMapper.writerFor(TimeSlotDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody body = out -> availabilityService.streamAvailability(request, slot -> {
+            try {
+                writer.writeValue(out, slot);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+
+    /**
+     * Searches for the first available reservation slots on or after a date.
+     *
+     * <p>The request is sent as query parameters and mapped to {@link NextAvailabilityRequestDTO}.
+     *
+     * @param request DTO containing the start date, selected service IDs, number of slots and horizon
+     * @return {@link AvailabilityDTO} containing the first available time slots and services
+     */
+    @GetMapping(NEXT)
+    public ResponseEntity<AvailabilityDTO> next(@ModelAttribute NextAvailabilityRequestDTO request) {
+        return ResponseEntity.ok(availabilityService.findNextAvailability(request));
+    }
+
+    /**
+     * Answers invalid search parameters with 400 Bad Request.
+     *
+     * @param e the validation error
+     * @return problem detail carrying the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    /**
+     * Picks the compact representation to send: CBOR when the client accepts it but not the
+     * compact JSON type, compact JSON otherwise.
+     */
+    private static MediaType compactMediaType(WebRequest webRequest) {
+        var accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        var acceptable = accept != null ? MediaType.parseMediaTypes(accept) : List.<MediaType>of();
+        var cbor = acceptable.stream().anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR));
+        var compactJson = acceptable.stream().anyMatch(type -> type.equalsTypeAndSubtype(COMPACT_JSON));
+        return cbor && !compactJson ? MediaType.APPLICATION_CBOR : COMPACT_JSON;
     }
 }
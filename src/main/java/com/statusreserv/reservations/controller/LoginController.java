@@ -1,12 +1,15 @@
 package com.statusreserv.reservations.controller;
 
 import com.statusreserv.reservations.dto.auth.AuthenticationDTO;
+import com.statusreserv.reservations.service.auth.AuthService;
 import com.statusreserv.reservations.service.auth.LoginService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import static com.statusreserv.reservations.constants.Endpoints.AUTH;
 import static com.statusreserv.reservations.constants.Endpoints.LOGIN;
+import static com.statusreserv.reservations.constants.Endpoints.LOGOUT;
 
 @RestController
 @RequestMapping(AUTH)
@@ -22,6 +26,7 @@ import static com.statusreserv.reservations.constants.Endpoints.LOGIN;
 public class LoginController {
 
     private final LoginService loginService;
+    private final AuthService authService;
 
     /**
      * Authenticates a user and returns a JWT token along with user info.
@@ -34,4 +39,17 @@ public class LoginController {
     public ResponseEntity<?> login(@RequestBody @Valid AuthenticationDTO data) {
         return ResponseEntity.ok(loginService.login(data));
     }
+
+    /**
+     * Revokes every token issued to the authenticated user, including the one used for this request.
+     *
+     * @param user the authenticated user
+     * @return 204 No Content
+     */
+    @PostMapping(LOGOUT)
+    @Operation(summary = "User logout", description = "Revoke every JWT token issued to the authenticated user")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails user) {
+        authService.revokeTokens(user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
 }
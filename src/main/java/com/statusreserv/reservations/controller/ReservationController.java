@@ -1,35 +1,99 @@
 package com.statusreserv.reservations.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.statusreserv.reservations.dto.reservation.ReservationBulkResultDTO;
 import com.statusreserv.reservations.dto.reservation.ReservationDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationFilter;
+import com.statusreserv.reservations.dto.reservation.ReservationPageDTO;
 import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+import com.statusreserv.reservations.service.reservation.ReservationBulkService;
 import com.statusreserv.reservations.service.reservation.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/reservations")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Reservations", description = "Endpoints for managing reservations")
 public class ReservationController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ReservationService reservationService;
+    private final ReservationBulkService reservationBulkService;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Retrieves all reservations.
+     * Retrieves a page of reservations.
      *
-     * @return List of ReservationDTO
+     * @param filter optional date range ({@code from}, {@code to}) and {@code status} values
+     * @param cursor {@code nextCursor} of the previous page, omitted for the first page
+     * @param limit  maximum number of reservations to return
+     * @return ReservationPageDTO with the reservations and the cursor of the next page
      */
     @GetMapping
-    @Operation(summary = "Get all reservations", description = "Retrieve a list of all reservations")
-    public ResponseEntity<List<ReservationDTO>> getAll() {
-        return ResponseEntity.ok(reservationService.findAll());
+    @Operation(summary = "Get reservations", description = "Retrieve a page of reservations ordered by date and start time")
+    public ResponseEntity<ReservationPageDTO> getAll(@ModelAttribute ReservationFilter filter,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reservationService.findAll(filter, cursor, limit));
+    }
+
+    /**
+     * Exports reservations as newline-delimited JSON, one ReservationDTO per line.
+     *
+     * <p>Rows are written as they are read from the database, so the export is not limited
+     * by the size of the tenant's history.
+     *
+     * @param filter optional date range ({@code from}, {@code to}) and {@code status} values
+     * @return streamed response body
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export reservations", description = "Stream all matching reservations as NDJSON")
+    public ResponseEntity<StreamingResponseBody> export(@ModelAttribute ReservationFilter filter) {
+        var writer = objectMapper.writerFor(ReservationDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody body = out -> reservationService.export(filter, reservation -> {
+            try {
+                writer.writeValue(out, reservation);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Creates many reservations at once, e.g. when importing from another system.
+     *
+     * <p>Every element is validated like a single reservation; a batch that is too large or
+     * spans too many dates is rejected as a whole.
+     *
+     * @param writes list of ReservationWrite DTOs containing reservation data
+     * @return ReservationBulkResultDTO with the created ids and rejection reasons, by request index
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Create reservations in bulk", description = "Validate and create many reservations in a single request")
+    public ResponseEntity<ReservationBulkResultDTO> createAll(@RequestBody List<@Valid ReservationWrite> writes) {
+        return ResponseEntity.ok(reservationBulkService.createAll(writes));
     }
 
     /**
@@ -55,4 +119,26 @@ public class ReservationController {
     public ResponseEntity<UUID> create(@Valid @RequestBody ReservationWrite write) {
         return ResponseEntity.ok( reservationService.create(write));
     }
+
+    /**
+     * Answers rejected reservations and oversized batches with 400 Bad Request.
+     *
+     * @param e the validation error
+     * @return problem detail carrying the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    /**
+     * Answers invalid elements of a bulk request with 400 Bad Request.
+     *
+     * @param e the constraint violations
+     * @return problem detail carrying the violation messages
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ProblemDetail> invalid(ConstraintViolationException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
 }
@@ -0,0 +1,12 @@
+package com.statusreserv.reservations.dto.availability;
+
+import com.statusreserv.reservations.dto.service.ServiceProvidedDTO;
+
+import java.util.List;
+import java.util.Set;
+
+public record CompactAvailabilityDTO(
+        int durationMinutes,
+        List<DaySlotsDTO> days,
+        Set<ServiceProvidedDTO> services) {
+}
@@ -0,0 +1,11 @@
+package com.statusreserv.reservations.dto.availability;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public record DaySlotsDTO(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate date,
+        int[] starts) {
+}
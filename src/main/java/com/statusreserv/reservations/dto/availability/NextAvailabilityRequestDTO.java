@@ -0,0 +1,15 @@
+package com.statusreserv.reservations.dto.availability;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+public record NextAvailabilityRequestDTO(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate from,
+        Set<UUID> services,
+        Integer limit,
+        Integer horizonDays) {
+}
@@ -0,0 +1,9 @@
+package com.statusreserv.reservations.dto.reservation;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record ReservationBulkResultDTO(
+        Map<Integer, UUID> created,
+        Map<Integer, String> rejected) {
+}
@@ -0,0 +1,15 @@
+package com.statusreserv.reservations.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.statusreserv.reservations.model.reservation.Status;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+public record ReservationFilter(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate from,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate to,
+        Set<Status> status) {
+}
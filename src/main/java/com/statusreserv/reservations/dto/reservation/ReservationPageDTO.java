@@ -0,0 +1,8 @@
+package com.statusreserv.reservations.dto.reservation;
+
+import java.util.List;
+
+public record ReservationPageDTO(
+        List<ReservationDTO> items,
+        String nextCursor) {
+}
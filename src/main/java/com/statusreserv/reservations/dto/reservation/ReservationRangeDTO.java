@@ -0,0 +1,12 @@
+package com.statusreserv.reservations.dto.reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record ReservationRangeDTO(
+        UUID id,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime) {
+}
@@ -1,13 +1,19 @@
 package com.statusreserv.reservations.dto.reservation;
 
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Set;
 import java.util.UUID;
 
 public record ReservationWrite(
+        @NotNull(message = "Reservation should have a date")
         LocalDate date,
+        @NotNull(message = "Reservation should have a start time")
         LocalTime startTime,
+        @NotEmpty(message = "You need to choose a service")
         Set<UUID> serviceProvidedIds
 ) {
-}
\ No newline at end of file
+}
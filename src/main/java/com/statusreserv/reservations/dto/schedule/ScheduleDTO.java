@@ -7,5 +7,6 @@ import java.util.UUID;
 public record ScheduleDTO(
         UUID id,
         DayOfWeek dayOfWeek,
-        Set<ScheduleTimeDTO> scheduleTime
+        Set<ScheduleTimeDTO> scheduleTime,
+        int capacity
 ) {}
@@ -5,5 +5,6 @@ import java.util.Set;
 
 public record ScheduleWrite(
         DayOfWeek dayOfWeek,
-        Set<ScheduleTimeWrite> scheduleTime
+        Set<ScheduleTimeWrite> scheduleTime,
+        Integer capacity
 ) {}
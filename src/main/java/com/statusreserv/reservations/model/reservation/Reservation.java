@@ -4,6 +4,7 @@ import com.statusreserv.reservations.model.customer.Customer;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -38,6 +39,7 @@ public class Reservation {
     private Customer customer;
 
     @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<ReservationServiceProvided> reservationServices;
 
     @ManyToOne(fetch = FetchType.LAZY)
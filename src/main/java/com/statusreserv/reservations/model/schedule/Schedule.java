@@ -3,6 +3,8 @@ package com.statusreserv.reservations.model.schedule;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.util.Set;
@@ -13,6 +15,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @With
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedules")
 @Table(name = "tbl_schedules")
 public class Schedule {
     @Id
@@ -23,12 +26,19 @@ public class Schedule {
     private DayOfWeek dayOfWeek;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedule-times")
     @CollectionTable(
             name = "tbl_schedule_times",
             joinColumns = @JoinColumn(name = "schedule_id")
     )
     private Set<ScheduleTime> scheduleTime;
 
+    /**
+     * Number of reservations the schedule's windows accept at the same time, e.g. the staff
+     * on duty.
+     */
+    private int capacity = 1;
+
     private Instant createdAt = Instant.now();
 
     @ManyToOne(fetch = FetchType.LAZY)
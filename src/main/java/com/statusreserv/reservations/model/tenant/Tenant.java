@@ -2,6 +2,8 @@ package com.statusreserv.reservations.model.tenant;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -10,6 +12,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @With
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tenants")
 @Table(name = "tbl_tenant")
 public class Tenant {
     @Id
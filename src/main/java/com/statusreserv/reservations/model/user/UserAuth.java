@@ -3,12 +3,11 @@ package com.statusreserv.reservations.model.user;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -29,6 +28,9 @@ public class UserAuth implements UserDetails {
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
+    @ColumnDefault("0")
+    private int tokenVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Tenant tenant;
 
@@ -37,14 +39,7 @@ public class UserAuth implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return switch (role) {
-            case ADMIN -> List.of(
-                    new SimpleGrantedAuthority("ROLE_ADMIN"),
-                    new SimpleGrantedAuthority("ROLE_USER")
-            );
-            case USER -> List.of(new SimpleGrantedAuthority("ROLE_USER"));
-        };
-
+        return role.getAuthorities();
     }
 
     @Override
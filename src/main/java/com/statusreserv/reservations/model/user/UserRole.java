@@ -1,5 +1,25 @@
 package com.statusreserv.reservations.model.user;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
 public enum UserRole {
-    ADMIN, USER
+    ADMIN, USER;
+
+    /**
+     * Returns the authorities granted to users with this role.
+     *
+     * @return the granted authorities
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return switch (this) {
+            case ADMIN -> List.of(
+                    new SimpleGrantedAuthority("ROLE_ADMIN"),
+                    new SimpleGrantedAuthority("ROLE_USER")
+            );
+            case USER -> List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        };
+    }
 }
@@ -1,26 +1,238 @@
 package com.statusreserv.reservations.repository;
 
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
 import com.statusreserv.reservations.model.reservation.Reservation;
 import com.statusreserv.reservations.model.reservation.Status;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
-    List<Reservation> findByDateBetweenAndStatusInAndTenantId(LocalDate from, LocalDate to, Set<Status> status, UUID tenantId);
-    List<Reservation> findByTenantId(UUID tenantId);
 
-    List<Reservation> findByTenantIdAndDate(UUID tenantId, LocalDate date);
+    /**
+     * Returns the time ranges of the tenant's reservations in a date range, without loading
+     * the entities.
+     *
+     * @param tenantId the tenant to look up
+     * @param from     first date, inclusive
+     * @param to       last date, inclusive
+     * @param statuses statuses to include
+     * @return id, date and times of each matching reservation
+     */
+    @Query("""
+            select new com.statusreserv.reservations.dto.reservation.ReservationRangeDTO(r.id, r.date, r.startTime, r.endTime)
+            from Reservation r
+            where r.tenant.id = :tenantId
+              and r.date between :from and :to
+              and r.status in :statuses
+            """)
+    List<ReservationRangeDTO> findBusyRanges(@Param("tenantId") UUID tenantId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("statuses") Collection<Status> statuses);
+
+    /**
+     * Checks whether any of the tenant's reservations with one of the given statuses overlaps
+     * {@code [from, to)}, with a single probe of the {@code time_range} GiST index.
+     *
+     * @param tenantId   the tenant to look up
+     * @param from       start of the range, inclusive
+     * @param to         end of the range, exclusive
+     * @param statuses   names of the statuses to include
+     * @param excludedId reservation to ignore, e.g. the one being updated
+     * @return true if an overlapping reservation exists
+     */
+    @Query(value = """
+            select exists (
+                select 1 from tbl_reservations r
+                where r.tenant_id = :tenantId
+                  and r.time_range && tsrange(cast(:from as timestamp), cast(:to as timestamp), '[)')
+                  and r.status in (:statuses)
+                  and r.id <> :excludedId
+            )
+            """, nativeQuery = true)
+    boolean existsOverlappingRange(@Param("tenantId") UUID tenantId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("statuses") Collection<String> statuses,
+                                   @Param("excludedId") UUID excludedId);
+
+    /**
+     * Checks whether any of the tenant's reservations with one of the given statuses overlaps
+     * a time range on a date. A range whose end is not after its start runs until midnight.
+     *
+     * @param tenantId  the tenant to look up
+     * @param date      the date of the range
+     * @param startTime start of the range, inclusive
+     * @param endTime   end of the range, exclusive
+     * @param statuses  statuses to include
+     * @param ignoreId  reservation to ignore, or null
+     * @return true if an overlapping reservation exists
+     */
+    default boolean existsOverlapping(UUID tenantId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                      Collection<Status> statuses, UUID ignoreId) {
+        var to = endTime.isAfter(startTime) ? date.atTime(endTime) : date.plusDays(1).atStartOfDay();
+        return existsOverlappingRange(
+                tenantId,
+                date.atTime(startTime),
+                to,
+                statuses.stream().map(Status::name).toList(),
+                ignoreId != null ? ignoreId : new UUID(0, 0)
+        );
+    }
 
+    @EntityGraph(attributePaths = "reservationServices")
     Optional<Reservation> findByIdAndTenantId(UUID id, UUID tenantId);
 
     void deleteByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Returns the first page of the tenant's reservations matching the filters, ordered by
+     * {@code (date, startTime, id)}.
+     *
+     * @param tenantId the tenant to list
+     * @param from     first date, inclusive
+     * @param to       last date, inclusive
+     * @param statuses statuses to include
+     * @param limit    maximum number of rows
+     * @return the first page
+     */
+    @Query("""
+            select r from Reservation r
+            where r.tenant.id = :tenantId
+              and r.date between :from and :to
+              and r.status in :statuses
+            order by r.date, r.startTime, r.id
+            """)
+    List<Reservation> findPage(@Param("tenantId") UUID tenantId,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to,
+                               @Param("statuses") Set<Status> statuses,
+                               Limit limit);
+
+    /**
+     * Returns the page of the tenant's reservations that follows the given position in the
+     * {@code (date, startTime, id)} ordering.
+     *
+     * <p>Seeking past the last row instead of skipping an offset keeps every page as cheap
+     * as the first one.
+     *
+     * @param tenantId  the tenant to list
+     * @param from      first date, inclusive
+     * @param to        last date, inclusive
+     * @param statuses  statuses to include
+     * @param date      date of the last row already returned
+     * @param startTime start time of the last row already returned
+     * @param id        id of the last row already returned
+     * @param limit     maximum number of rows
+     * @return the next page
+     */
+    @Query("""
+            select r from Reservation r
+            where r.tenant.id = :tenantId
+              and r.date between :from and :to
+              and r.status in :statuses
+              and (r.date > :date
+                   or (r.date = :date and r.startTime > :startTime)
+                   or (r.date = :date and r.startTime = :startTime and r.id > :id))
+            order by r.date, r.startTime, r.id
+            """)
+    List<Reservation> findPageAfter(@Param("tenantId") UUID tenantId,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("statuses") Set<Status> statuses,
+                                    @Param("date") LocalDate date,
+                                    @Param("startTime") LocalTime startTime,
+                                    @Param("id") UUID id,
+                                    Limit limit);
+
+    /**
+     * Initializes the services of already loaded reservations with a single query.
+     *
+     * <p>Paged finders cannot fetch-join the collection without Hibernate applying the limit
+     * in memory, so pages are loaded first and their services fetched in a second round trip.
+     *
+     * @param reservations managed reservations of the current persistence context
+     * @return the same reservations with their services loaded
+     */
+    @Query("""
+            select distinct r from Reservation r
+            left join fetch r.reservationServices
+            where r in :reservations
+            """)
+    List<Reservation> fetchServices(@Param("reservations") Collection<Reservation> reservations);
+
+    /**
+     * Streams the tenant's reservations matching the filters, ordered by
+     * {@code (date, startTime, id)}.
+     *
+     * <p>Rows are fetched from a server-side cursor in batches, so the stream must be
+     * consumed and closed inside a transaction. Services are loaded in batches of
+     * reservations as they are mapped.
+     *
+     * @param tenantId the tenant to export
+     * @param from     first date, inclusive
+     * @param to       last date, inclusive
+     * @param statuses statuses to include
+     * @return stream of matching reservations
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select r from Reservation r
+            where r.tenant.id = :tenantId
+              and r.date between :from and :to
+              and r.status in :statuses
+            order by r.date, r.startTime, r.id
+            """)
+    Stream<Reservation> streamAll(@Param("tenantId") UUID tenantId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("statuses") Set<Status> statuses);
+
+    /**
+     * Acquires a transaction-scoped PostgreSQL advisory lock, blocking until it is granted.
+     * The lock is released when the surrounding transaction commits or rolls back.
+     *
+     * @param key the lock key
+     * @return always 1
+     */
+    @Query(value = "select 1 from pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer acquireTransactionLock(@Param("key") long key);
+
+    /**
+     * Acquires several transaction-scoped PostgreSQL advisory locks with a single statement,
+     * in ascending key order, blocking until all of them are granted. Volatile functions in
+     * the select list are evaluated after sorting, so the order is guaranteed.
+     *
+     * @param keys the lock keys
+     * @return the number of locks acquired
+     */
+    @Query(value = """
+            select count(*) from (
+                select pg_advisory_xact_lock(k) from unnest(cast(:keys as bigint[])) k order by k
+            ) locks
+            """, nativeQuery = true)
+    long acquireTransactionLocks(@Param("keys") long[] keys);
 }
@@ -1,18 +1,53 @@
 package com.statusreserv.reservations.repository;
 
 import com.statusreserv.reservations.model.schedule.Schedule;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
+/**
+ * Schedule finders are served from the Hibernate query cache; results are invalidated
+ * whenever a schedule or its times are written through the persistence context.
+ */
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, UUID> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Schedule> findByTenantIdAndDayOfWeek(UUID tenantId, DayOfWeek dayOfWeek);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Schedule> findByTenantId(UUID tenantId);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Schedule> findByIdAndTenantId(UUID id, UUID tenantId);
+
     void deleteByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Returns the tenant's schedules for the given days with their opening times,
+     * in a single query.
+     *
+     * @param tenantId the tenant to look up
+     * @param days     the days of the week to include
+     * @return schedules of the requested days with {@code scheduleTime} initialized
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select distinct s from Schedule s
+            left join fetch s.scheduleTime
+            where s.tenant.id = :tenantId
+              and s.dayOfWeek in :days
+            """)
+    List<Schedule> findWithTimesByTenantIdAndDayOfWeekIn(@Param("tenantId") UUID tenantId,
+                                                         @Param("days") Collection<DayOfWeek> days);
 }
@@ -1,7 +1,9 @@
 package com.statusreserv.reservations.repository;
 
 import com.statusreserv.reservations.repository.service.ServiceProvided;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,9 +11,20 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
+/**
+ * Service finders by tenant and by id are served from the Hibernate query cache; results are
+ * invalidated whenever a service is written through the persistence context. Lookups of an
+ * arbitrary set of ids are not cached, since nearly every key would be distinct.
+ */
 @Repository
 public interface ServiceProvidedRepository extends JpaRepository<ServiceProvided, UUID> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<ServiceProvided> findByIdAndTenantId(UUID id, UUID tenantId);
 
     List<ServiceProvided> findByIdInAndTenantId(Set<UUID> id, UUID tenantId);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<ServiceProvided> findByTenantId(UUID tenantId);
 }
@@ -3,6 +3,8 @@ package com.statusreserv.reservations.repository.service;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
@@ -12,6 +14,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @With
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service-provided")
 @Table(name = "tbl_services")
 public class ServiceProvided {
     @Id
@@ -2,10 +2,12 @@ package com.statusreserv.reservations.service.auth;
 
 import com.statusreserv.reservations.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service responsible for authentication and user lookup.
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Loads a user by their username (email) for authentication.
@@ -31,4 +34,22 @@ public class AuthService implements UserDetailsService {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
     }
+
+    /**
+     * Revokes every token issued to a user by incrementing their token version.
+     *
+     * <p>Publishes a {@link TokensRevokedEvent} so cached principals are dropped once the new
+     * version is committed.
+     *
+     * @param username the username (email) of the user
+     * @throws UsernameNotFoundException if no user is found with the given username
+     */
+    @Transactional
+    public void revokeTokens(String username) {
+        var user = userRepository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new TokensRevokedEvent(username));
+    }
 }
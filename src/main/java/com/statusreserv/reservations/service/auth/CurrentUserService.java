@@ -1,5 +1,6 @@
 package com.statusreserv.reservations.service.auth;
 
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import com.statusreserv.reservations.model.user.UserAuth;
 import com.statusreserv.reservations.repository.UserRepository;
@@ -8,6 +9,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.UUID;
 
@@ -15,32 +18,42 @@ import java.util.UUID;
  * Service responsible for retrieving the currently authenticated user and their tenant.
  *
  * <p>Uses Spring Security's {@link SecurityContextHolder} to access authentication information.
+ * The tenant id is read from the {@link AuthenticatedUser} principal without querying the
+ * database, and the user entity is loaded at most once per HTTP request.
  */
 @Service
 @RequiredArgsConstructor
 public class CurrentUserService {
 
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserService.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
 
     /**
      * Retrieves the currently authenticated user.
      *
+     * <p>Within an HTTP request the entity is memoized, so repeated calls issue a single query.
+     *
      * @return the authenticated {@link UserAuth} entity
      * @throws UsernameNotFoundException if no authenticated user is found or the principal is invalid
      */
     public UserAuth getCurrentUser() {
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var principal = getPrincipal();
+        var attributes = RequestContextHolder.getRequestAttributes();
 
-        if (authentication == null || !authentication.isAuthenticated() || authentication.getPrincipal() == null) {
-            throw new UsernameNotFoundException("No authenticated user found");
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UserAuth user
+                && user.getEmail().equals(principal.getUsername())) {
+            return user;
         }
 
-        if (!(authentication.getPrincipal() instanceof UserDetails userDetails)) {
-            throw new UsernameNotFoundException("Invalid authenticated principal");
-        }
+        var user = userRepository.findByEmail(principal.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getUsername()));
 
-        return userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
     }
 
     /**
@@ -49,6 +62,9 @@ public class CurrentUserService {
      * @return the tenant's UUID
      */
     public UUID getCurrentTenantId() {
+        if (getPrincipal() instanceof AuthenticatedUser user) {
+            return user.tenantId();
+        }
         return getCurrentUser().getTenant().getId();
     }
 
@@ -60,4 +76,18 @@ public class CurrentUserService {
     public Tenant getCurrentTenant() {
         return getCurrentUser().getTenant();
     }
+
+    private UserDetails getPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getPrincipal() == null) {
+            throw new UsernameNotFoundException("No authenticated user found");
+        }
+
+        if (!(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            throw new UsernameNotFoundException("Invalid authenticated principal");
+        }
+
+        return userDetails;
+    }
 }
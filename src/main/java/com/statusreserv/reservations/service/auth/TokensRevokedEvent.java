@@ -0,0 +1,9 @@
+package com.statusreserv.reservations.service.auth;
+
+/**
+ * Published when every token issued to a user has been revoked.
+ *
+ * @param email the email of the user whose tokens were revoked
+ */
+public record TokensRevokedEvent(String email) {
+}
@@ -0,0 +1,258 @@
+package com.statusreserv.reservations.service.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory, tenant-scoped index of busy ranges used to answer availability searches
+ * without querying the database.
+ *
+ * <p>Reservations are loaded lazily per tenant and date, as they are requested. Committed
+ * reservation changes are applied through {@link ReservationChangedEvent}, so the index stays
+ * warm under booking traffic. Opening times are not kept here: they are read per search from
+ * the schedule finders, which the Hibernate second-level and query caches serve from memory.
+ *
+ * <p>Entries older than {@code availability.index.max-age} are reloaded, which bounds how
+ * long changes made by another application instance can go unnoticed. Memory is bounded as
+ * well: at most {@code availability.index.max-tenants} tenants are kept, each dropped after
+ * {@code availability.index.tenant-idle} without searches, and at most
+ * {@code availability.index.max-days-per-tenant} dates per tenant. The index is only a read
+ * model: booking overlap checks always read from the database.
+ */
+@Component
+public class AvailabilityIndex {
+
+    /**
+     * Reservation statuses that occupy time in the schedule.
+     */
+    public static final Set<Status> BLOCKING_STATUSES = EnumSet.of(Status.COMPLETED, Status.PENDING, Status.CONFIRMED);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReservationRepository reservationRepository;
+
+    private final Cache<UUID, TenantEntry> tenants;
+    private final Duration maxAge;
+    private final long maxDaysPerTenant;
+
+    public AvailabilityIndex(ScheduleRepository scheduleRepository,
+                             ReservationRepository reservationRepository,
+                             @Value("${availability.index.max-age:PT5M}") Duration maxAge,
+                             @Value("${availability.index.max-tenants:10000}") long maxTenants,
+                             @Value("${availability.index.tenant-idle:PT30M}") Duration tenantIdle,
+                             @Value("${availability.index.max-days-per-tenant:400}") long maxDaysPerTenant) {
+        this.scheduleRepository = scheduleRepository;
+        this.reservationRepository = reservationRepository;
+        this.maxAge = maxAge;
+        this.maxDaysPerTenant = maxDaysPerTenant;
+        this.tenants = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(tenantIdle)
+                .build();
+    }
+
+    /**
+     * Returns the operating periods of the tenant for each of the given dates.
+     *
+     * <p>Dates on which the tenant has no schedule are not present in the result.
+     *
+     * @param tenantId the tenant to look up
+     * @param dates the dates to compute periods for
+     * @return map with each scheduled date and its operating periods
+     */
+    public Map<LocalDate, List<TimeRangeDTO>> getPeriods(UUID tenantId, Collection<LocalDate> dates) {
+        var openings = loadOpenings(tenantId, daysOf(dates)).periods();
+        var periods = new HashMap<LocalDate, List<TimeRangeDTO>>();
+
+        for (var date : dates) {
+            var dayPeriods = openings.get(date.getDayOfWeek());
+            if (dayPeriods != null) periods.put(date, dayPeriods);
+        }
+        return periods;
+    }
+
+    /**
+     * Returns the capacity of the operating periods of the tenant that accept more than one
+     * reservation at a time, for each of the given dates.
+     *
+     * <p>Periods with a capacity of one, and dates without such periods, are not present in
+     * the result, so single-resource tenants always get an empty map.
+     *
+     * @param tenantId the tenant to look up
+     * @param dates the dates to look up
+     * @return map with each date and the capacity of its shared periods
+     */
+    public Map<LocalDate, Map<TimeRangeDTO, Integer>> getCapacities(UUID tenantId, Collection<LocalDate> dates) {
+        var capacities = loadOpenings(tenantId, daysOf(dates)).capacities();
+        if (capacities.isEmpty()) return Map.of();
+
+        var result = new HashMap<LocalDate, Map<TimeRangeDTO, Integer>>();
+        for (var date : dates) {
+            var dayCapacities = capacities.get(date.getDayOfWeek());
+            if (dayCapacities != null) result.put(date, dayCapacities);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ranges occupied by blocking reservations on each of the given dates.
+     *
+     * <p>Every requested date is present in the result, mapped to an empty list if the
+     * tenant has no reservation on it.
+     *
+     * @param tenantId the tenant to look up
+     * @param dates the dates to look up
+     * @return map with each requested date and its busy ranges
+     */
+    public Map<LocalDate, Collection<TimeRangeDTO>> getBusyRanges(UUID tenantId, Collection<LocalDate> dates) {
+        var tenant = tenant(tenantId);
+        var result = new HashMap<LocalDate, Collection<TimeRangeDTO>>();
+        var missing = new TreeSet<LocalDate>();
+
+        for (var date : dates) {
+            var day = tenant.days.getIfPresent(date);
+            if (day != null && !isStale(day.loadedAt())) {
+                result.put(date, day.busy().values());
+            } else {
+                missing.add(date);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            var loaded = loadBusyRanges(tenant, tenantId, missing.first(), missing.last());
+            for (var date : missing) {
+                result.put(date, loaded.get(date).busy().values());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies a committed reservation change to the loaded date it belongs to.
+     *
+     * @param event the reservation change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        var tenant = tenants.getIfPresent(event.tenantId());
+        if (tenant == null) return;
+
+        tenant.generation.incrementAndGet();
+        tenant.days.asMap().computeIfPresent(event.date(), (date, day) -> {
+            var busy = new HashMap<>(day.busy());
+            if (BLOCKING_STATUSES.contains(event.status())) {
+                busy.put(event.reservationId(), new TimeRangeDTO(event.startTime(), event.endTime()));
+            } else {
+                busy.remove(event.reservationId());
+            }
+            return new Day(day.loadedAt(), busy);
+        });
+    }
+
+    private TenantEntry tenant(UUID tenantId) {
+        return tenants.get(tenantId, id -> new TenantEntry(maxDaysPerTenant, maxAge));
+    }
+
+    private static Set<DayOfWeek> daysOf(Collection<LocalDate> dates) {
+        var days = EnumSet.noneOf(DayOfWeek.class);
+        for (var date : dates) {
+            days.add(date.getDayOfWeek());
+            if (days.size() == DayOfWeek.values().length) break;
+        }
+        return days;
+    }
+
+    /**
+     * Loads the opening periods of the given days with one query, and the capacity of the
+     * periods that accept more than one reservation at a time.
+     */
+    private Openings loadOpenings(UUID tenantId, Set<DayOfWeek> days) {
+        var periods = new EnumMap<DayOfWeek, List<TimeRangeDTO>>(DayOfWeek.class);
+        var capacities = new EnumMap<DayOfWeek, Map<TimeRangeDTO, Integer>>(DayOfWeek.class);
+        var schedules = days.isEmpty() ? List.<Schedule>of() : scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(tenantId, days);
+        for (Schedule schedule : schedules) {
+            var dayPeriods = periods.computeIfAbsent(schedule.getDayOfWeek(), day -> new ArrayList<>());
+            schedule.getScheduleTime().forEach(time -> {
+                var period = new TimeRangeDTO(time.getOpenTime(), time.getCloseTime());
+                dayPeriods.add(period);
+                if (schedule.getCapacity() > 1) {
+                    capacities.computeIfAbsent(schedule.getDayOfWeek(), day -> new HashMap<>()).put(period, schedule.getCapacity());
+                }
+            });
+        }
+        return new Openings(periods, capacities);
+    }
+
+    /**
+     * Loads the reservation ranges of every date in {@code [from, to]} with a single query.
+     *
+     * <p>The result is only cached if no change was applied to the tenant while loading,
+     * otherwise a concurrent update could be overwritten by an older snapshot. The check and
+     * the publish of each date run inside the same per-date compute that events use, so a
+     * change applied after the check is applied on top of the published date.
+     */
+    private Map<LocalDate, Day> loadBusyRanges(TenantEntry tenant, UUID tenantId, LocalDate from, LocalDate to) {
+        var generation = tenant.generation.get();
+        var loadedAt = System.nanoTime();
+
+        var reservationsByDate = reservationRepository.findBusyRanges(tenantId, from, to, BLOCKING_STATUSES)
+                .stream()
+                .collect(Collectors.groupingBy(ReservationRangeDTO::date));
+
+        var loaded = new HashMap<LocalDate, Day>();
+        for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            var busy = new HashMap<UUID, TimeRangeDTO>();
+            for (var reservation : reservationsByDate.getOrDefault(date, List.of())) {
+                busy.put(reservation.id(), new TimeRangeDTO(reservation.startTime(), reservation.endTime()));
+            }
+            loaded.put(date, new Day(loadedAt, busy));
+        }
+
+        var days = tenant.days.asMap();
+        for (var entry : loaded.entrySet()) {
+            days.compute(entry.getKey(), (date, current) ->
+                    tenant.generation.get() == generation ? entry.getValue() : current);
+        }
+        return loaded;
+    }
+
+    private boolean isStale(long loadedAt) {
+        return System.nanoTime() - loadedAt > maxAge.toNanos();
+    }
+
+    private record Day(long loadedAt, Map<UUID, TimeRangeDTO> busy) {
+    }
+
+    private record Openings(Map<DayOfWeek, List<TimeRangeDTO>> periods, Map<DayOfWeek, Map<TimeRangeDTO, Integer>> capacities) {
+    }
+
+    private static final class TenantEntry {
+        private final AtomicLong generation = new AtomicLong();
+        private final Cache<LocalDate, Day> days;
+
+        private TenantEntry(long maxDays, Duration maxAge) {
+            // evict on the writing thread, so that a long range cannot outgrow the bound
+            this.days = Caffeine.newBuilder()
+                    .maximumSize(maxDays)
+                    .expireAfterWrite(maxAge)
+                    .executor(Runnable::run)
+                    .build();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.statusreserv.reservations.service.availability;
 
 import com.statusreserv.reservations.dto.availability.AvailabilityDTO;
 import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.dto.availability.CompactAvailabilityDTO;
+import com.statusreserv.reservations.dto.availability.NextAvailabilityRequestDTO;
 import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
 import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
 
@@ -9,6 +11,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Service responsible for handling availability and time slot calculations.
@@ -23,6 +26,43 @@ public interface AvailabilityService {
      */
     AvailabilityDTO findAvailability(AvailabilityRequestDTO request);
 
+    /**
+     * Finds the first available slots on or after a date, searching forward until enough
+     * slots are found or the search horizon is reached.
+     *
+     * @param request NextAvailabilityRequestDTO containing the start date, services, number of slots and horizon
+     * @return AvailabilityDTO with the first available time slots in chronological order
+     */
+    AvailabilityDTO findNextAvailability(NextAvailabilityRequestDTO request);
+
+    /**
+     * Finds availability like {@link #findAvailability(AvailabilityRequestDTO)}, grouping the
+     * slots by date as start offsets in minutes.
+     *
+     * @param request AvailabilityRequestDTO containing search parameters
+     * @return CompactAvailabilityDTO with the slot duration, slot starts per date and resources
+     */
+    CompactAvailabilityDTO findCompactAvailability(AvailabilityRequestDTO request);
+
+    /**
+     * Streams the available slots of a date range in chronological order, without
+     * collecting them.
+     *
+     * @param request AvailabilityRequestDTO containing search parameters
+     * @param consumer receives each available slot
+     */
+    void streamAvailability(AvailabilityRequestDTO request, Consumer<TimeSlotDTO> consumer);
+
+    /**
+     * Returns the entity tag of the availability that {@link #findAvailability} would return
+     * for the request, without computing it.
+     *
+     * @param request AvailabilityRequestDTO containing search parameters
+     * @param variant the representation of the response, so each one has its own tag
+     * @return quoted strong entity tag
+     */
+    String getETag(AvailabilityRequestDTO request, String variant);
+
     /**
      * Calculates available time slots given existing busy periods and desired duration.
      *
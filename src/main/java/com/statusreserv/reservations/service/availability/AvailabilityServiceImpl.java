@@ -2,24 +2,33 @@ package com.statusreserv.reservations.service.availability;
 
 import com.statusreserv.reservations.dto.availability.AvailabilityDTO;
 import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.dto.availability.CompactAvailabilityDTO;
+import com.statusreserv.reservations.dto.availability.DaySlotsDTO;
+import com.statusreserv.reservations.dto.availability.NextAvailabilityRequestDTO;
 import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
 import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
 import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
-import com.statusreserv.reservations.model.reservation.Reservation;
-import com.statusreserv.reservations.model.reservation.Status;
-import com.statusreserv.reservations.model.schedule.Schedule;
 import com.statusreserv.reservations.repository.service.ServiceProvided;
-import com.statusreserv.reservations.repository.ReservationRepository;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
-import com.statusreserv.reservations.service.schedule.ScheduleService;
 import com.statusreserv.reservations.service.service.ServiceProvidedService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,8 +38,8 @@ import java.util.stream.Stream;
  *
  * <p>Availability is computed considering:
  * <ul>
- *     <li>Operating schedules (via {@link ScheduleService})</li>
- *     <li>Existing reservations (via {@link ReservationRepository})</li>
+ *     <li>Operating schedules (via {@link AvailabilityIndex})</li>
+ *     <li>Existing reservations (via {@link AvailabilityIndex})</li>
  *     <li>Total duration of selected services (via {@link ServiceProvidedService})</li>
  * </ul>
  *
@@ -38,14 +47,67 @@ import java.util.stream.Stream;
  * details are mapped with {@link ServiceProvidedMapper}.
  */
 @Service
-@RequiredArgsConstructor
 public class AvailabilityServiceImpl implements AvailabilityService {
 
     private final ServiceProvidedService serviceProvidedService;
-    private final ReservationRepository reservationRepository;
     private final CurrentUserService currentUserService;
-    private final ScheduleService scheduleService;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityVersion availabilityVersion;
     private final ServiceProvidedMapper serviceProvidedMapper;
+    private final MeterProvider<Timer> searchTimer;
+    private final DistributionSummary slotsPerSearch;
+    private final DistributionSummary reservationsPerDay;
+    private final int parallelism;
+    private final ExecutorService parallelExecutor;
+
+    @Value("${availability.parallel.threshold-days:90}")
+    private int parallelThresholdDays = 90;
+
+    @Value("${availability.next.window-days:7}")
+    private int nextWindowDays = 7;
+
+    @Value("${availability.next.max-horizon-days:366}")
+    private int nextMaxHorizonDays = 366;
+
+    @Value("${availability.stream.window-days:31}")
+    private int streamWindowDays = 31;
+
+    public AvailabilityServiceImpl(ServiceProvidedService serviceProvidedService,
+                                   CurrentUserService currentUserService,
+                                   AvailabilityIndex availabilityIndex,
+                                   AvailabilityVersion availabilityVersion,
+                                   ServiceProvidedMapper serviceProvidedMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${availability.parallel.threads:0}") int parallelThreads) {
+        this.serviceProvidedService = serviceProvidedService;
+        this.currentUserService = currentUserService;
+        this.availabilityIndex = availabilityIndex;
+        this.availabilityVersion = availabilityVersion;
+        this.serviceProvidedMapper = serviceProvidedMapper;
+        this.searchTimer = Timer.builder("availability.search")
+                .description("Time spent computing availability")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.slotsPerSearch = DistributionSummary.builder("availability.slots")
+                .description("Available slots returned by an availability search")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.reservationsPerDay = DistributionSummary.builder("availability.reservations.per.day")
+                .description("Blocking reservations on each scheduled day of an availability search")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.parallelism = parallelThreads > 0 ? parallelThreads : Runtime.getRuntime().availableProcessors();
+        this.parallelExecutor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("availability-", 0).daemon().factory());
+    }
+
+    /**
+     * Stops the workers of parallel searches.
+     */
+    @PreDestroy
+    public void shutdown() {
+        parallelExecutor.shutdownNow();
+    }
 
     /**
      * Finds available reservation slots for the given request.
@@ -54,7 +116,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
      * @return {@link AvailabilityDTO} with available time slots and corresponding services
      */
     @Override
+    @Transactional(readOnly = true)
     public AvailabilityDTO findAvailability(AvailabilityRequestDTO request) {
+        var start = System.nanoTime();
         var services = serviceProvidedService.findByIdIn(request.services());
         var durationMinutes = getTotalDuration(services);
         var dates = getDatesBetween(request.from(), request.to());
@@ -65,97 +129,339 @@ public class AvailabilityServiceImpl implements AvailabilityService {
                 .map(serviceProvidedMapper::toDTO)
                 .collect(Collectors.toSet());
 
+        recordSearch(dates.size(), availableSlots.size(), System.nanoTime() - start);
         return new AvailabilityDTO(availableSlots, serviceDTOList);
     }
 
     /**
-     * Constructs a map of operating periods by date based on existing schedules.
+     * Finds the first {@code limit} available slots on or after {@code from}.
      *
-     * @param dates list of dates to compute periods for
-     * @return map with {@link LocalDate} as key and {@link List} of {@link TimeRangeDTO} as value
+     * <p>Dates are visited in windows of {@code availability.next.window-days} days, and
+     * reservations are only loaded for the scheduled dates of the current window. The search
+     * stops as soon as enough slots are found, so its cost depends on the distance to the
+     * first free slots rather than on the horizon.
+     *
+     * @param request DTO containing the start date, services, number of slots (default 1, at most 100)
+     *                and horizon in days (default 90, at most {@code availability.next.max-horizon-days})
+     * @return {@link AvailabilityDTO} with the first available slots in chronological order
+     * @throws IllegalArgumentException if the start date is missing or limit or horizon are out of range
      */
-    public Map<LocalDate, List<TimeRangeDTO>> getPeriods(List<LocalDate> dates) {
-        var schedules = scheduleService.getAll();
-        var timeSlotsPerDate = new HashMap<LocalDate, List<TimeRangeDTO>>();
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityDTO findNextAvailability(NextAvailabilityRequestDTO request) {
+        var limit = request.limit() != null ? request.limit() : 1;
+        var horizonDays = request.horizonDays() != null ? request.horizonDays() : 90;
+        if (request.from() == null) {
+            throw new IllegalArgumentException("Start date is required");
+        }
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        if (horizonDays < 1 || horizonDays > nextMaxHorizonDays) {
+            throw new IllegalArgumentException("Horizon must be between 1 and " + nextMaxHorizonDays + " days");
+        }
 
-        var schedulesDays = schedules.stream()
-                .map(Schedule::getDayOfWeek)
-                .toList();
+        var services = serviceProvidedService.findByIdIn(request.services());
+        var durationMinutes = getTotalDuration(services);
+        var slots = new LinkedHashSet<TimeSlotDTO>();
+
+        if (durationMinutes > 0) {
+            walkSlots(currentUserService.getCurrentTenantId(), request.from(), request.from().plusDays(horizonDays),
+                    nextWindowDays, durationMinutes, slot -> {
+                        slots.add(slot);
+                        return slots.size() < limit;
+                    });
+        }
+
+        var serviceDTOList = services.stream()
+                .map(serviceProvidedMapper::toDTO)
+                .collect(Collectors.toSet());
+
+        return new AvailabilityDTO(slots, serviceDTOList);
+    }
+
+    /**
+     * Finds available reservation slots for the given request in the compact representation.
+     *
+     * <p>All slots share the total duration of the selected services, so each date only lists
+     * the minutes after midnight at which a slot starts. Dates without free slots are omitted.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @return {@link CompactAvailabilityDTO} with the slot duration, slot starts per date and services
+     * @throws IllegalArgumentException if the date range is missing or {@code to} is before {@code from}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CompactAvailabilityDTO findCompactAvailability(AvailabilityRequestDTO request) {
+        if (request.from() == null || request.to() == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (request.to().isBefore(request.from())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+
+        var start = System.nanoTime();
+        var services = serviceProvidedService.findByIdIn(request.services());
+        var durationMinutes = getTotalDuration(services);
+        var days = new ArrayList<DaySlotsDTO>();
+        var count = new int[1];
+
+        if (durationMinutes > 0) {
+            var day = new LocalDate[1];
+            var starts = new int[DayOccupancy.MINUTES_PER_DAY];
+            var size = new int[1];
+
+            walkSlots(currentUserService.getCurrentTenantId(), request.from(), request.to().plusDays(1),
+                    streamWindowDays, durationMinutes, slot -> {
+                        if (!slot.date().equals(day[0])) {
+                            if (size[0] > 0) days.add(new DaySlotsDTO(day[0], Arrays.copyOf(starts, size[0])));
+                            day[0] = slot.date();
+                            size[0] = 0;
+                        }
+                        starts[size[0]++] = slot.timeRange().start().toSecondOfDay() / 60;
+                        count[0]++;
+                        return true;
+                    });
+            if (size[0] > 0) days.add(new DaySlotsDTO(day[0], Arrays.copyOf(starts, size[0])));
+        }
+
+        var serviceDTOList = services.stream()
+                .map(serviceProvidedMapper::toDTO)
+                .collect(Collectors.toSet());
+
+        recordSearch((int) ChronoUnit.DAYS.between(request.from(), request.to()) + 1, count[0], System.nanoTime() - start);
+        return new CompactAvailabilityDTO(durationMinutes, days, serviceDTOList);
+    }
+
+    /**
+     * Streams the available slots of a date range to {@code consumer}, in chronological order.
+     *
+     * <p>Unlike {@link #findAvailability(AvailabilityRequestDTO)}, slots are never collected:
+     * dates are processed in windows of {@code availability.stream.window-days} days and each
+     * day's slots are handed over as soon as they are computed, so memory use does not grow
+     * with the length of the range.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @param consumer receives each available slot
+     * @throws IllegalArgumentException if the date range is missing or {@code to} is before {@code from}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAvailability(AvailabilityRequestDTO request, Consumer<TimeSlotDTO> consumer) {
+        if (request.from() == null || request.to() == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (request.to().isBefore(request.from())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
 
-        dates.stream()
-                .filter(date -> schedulesDays.contains(date.getDayOfWeek()))
-                .forEach(date -> {
-                    var scheduleTimeRanges = schedules.stream()
-                            .filter(schedule -> schedule.getDayOfWeek().equals(date.getDayOfWeek()))
-                            .flatMap(schedule -> schedule.getScheduleTime().stream())
-                            .map(scheduleTime ->
-                                    new TimeRangeDTO(scheduleTime.getOpenTime(), scheduleTime.getCloseTime())
-                            )
-                            .toList();
+        var start = System.nanoTime();
+        var durationMinutes = getTotalDuration(serviceProvidedService.findByIdIn(request.services()));
+        var count = new int[1];
 
-                    timeSlotsPerDate.put(date, scheduleTimeRanges);
-                });
+        if (durationMinutes > 0) {
+            walkSlots(currentUserService.getCurrentTenantId(), request.from(), request.to().plusDays(1),
+                    streamWindowDays, durationMinutes, slot -> {
+                        consumer.accept(slot);
+                        count[0]++;
+                        return true;
+                    });
+        }
 
-        return timeSlotsPerDate;
+        recordSearch((int) ChronoUnit.DAYS.between(request.from(), request.to()) + 1, count[0], System.nanoTime() - start);
+    }
+
+    /**
+     * Builds the ETag of an availability search from the current tenant's
+     * {@link AvailabilityVersion}, the request parameters and the representation. No query
+     * is issued.
+     *
+     * @param request DTO containing the date range and selected service IDs
+     * @param variant the representation of the response
+     * @return quoted strong entity tag
+     */
+    @Override
+    public String getETag(AvailabilityRequestDTO request, String variant) {
+        return availabilityVersion.etag(currentUserService.getCurrentTenantId(), request, variant);
+    }
+
+    /**
+     * Constructs a map of operating periods by date based on existing schedules.
+     *
+     * <p>Schedules are read from the {@link AvailabilityIndex}, so no query is issued once
+     * the tenant's weekly schedule is loaded.
+     *
+     * @param dates list of dates to compute periods for
+     * @return map with {@link LocalDate} as key and {@link List} of {@link TimeRangeDTO} as value
+     */
+    public Map<LocalDate, List<TimeRangeDTO>> getPeriods(List<LocalDate> dates) {
+        return availabilityIndex.getPeriods(currentUserService.getCurrentTenantId(), dates);
     }
 
     /**
      * Computes available time slots based on operating periods, existing reservations,
      * and desired duration.
      *
+     * <p>Reservations are read from the {@link AvailabilityIndex}. Each day is modelled as a
+     * {@link DayOccupancy} bitmap built once from its operating periods and reservations, so
+     * every candidate slot is checked with a few word operations instead of a scan over the
+     * day's reservations. Periods of schedules with a capacity above one stay free until as
+     * many reservations overlap as the capacity allows.
+     *
+     * <p>Days are independent, so searches covering at least
+     * {@code availability.parallel.threshold-days} scheduled dates are computed in parallel.
+     * Only dates with operating periods count, since they are the work to split. The dates are
+     * cut into one contiguous run per worker of a dedicated pool of
+     * {@code availability.parallel.threads} platform threads, so CPU-bound searches neither
+     * compete with the common pool nor grow with the number of (virtual) request threads.
+     * Each worker reuses one {@link DayOccupancy}, as the sequential path does. Either way
+     * days are merged in date order and each day yields its slots in ascending order, so the
+     * result needs no further sorting.
+     *
      * @param periods map of dates to operating periods
      * @param durationMinutes total duration of selected services in minutes
      * @return set of {@link TimeSlotDTO} representing available slots
      */
     public Set<TimeSlotDTO> getAvailableTimeSlots(Map<LocalDate, List<TimeRangeDTO>> periods, int durationMinutes) {
-        if (periods.isEmpty()) return Set.of();
+        if (periods.isEmpty() || durationMinutes <= 0) return Set.of();
 
-        var startDate = periods.keySet().stream().min(LocalDate::compareTo).orElseThrow();
-        var endDate = periods.keySet().stream().max(LocalDate::compareTo).orElseThrow();
-
-        var statuses = Set.of(Status.COMPLETED, Status.PENDING, Status.CONFIRMED);
-        var reservations = reservationRepository.findByDateBetweenAndStatusInAndTenantId(
-                startDate,
-                endDate,
-                statuses,
-                currentUserService.getCurrentTenantId()
-        );
-
-        var reservationsByDate = reservations.stream()
-                .collect(Collectors.groupingBy(Reservation::getDate));
+        var dates = new TreeSet<>(periods.keySet());
+        var tenantId = currentUserService.getCurrentTenantId();
+        var busyRangesByDate = availabilityIndex.getBusyRanges(tenantId, dates);
+        var capacitiesByDate = availabilityIndex.getCapacities(tenantId, dates);
+        recordReservationsPerDay(busyRangesByDate);
 
         var availableSlots = new LinkedHashSet<TimeSlotDTO>();
 
-        for (var entry : periods.entrySet()) {
-            var date = entry.getKey();
-            var dayPeriods = entry.getValue();
-            var dayReservations = reservationsByDate.getOrDefault(date, List.of());
+        if (dates.size() >= parallelThresholdDays) {
+            var ordered = List.copyOf(dates);
+            var runLength = (ordered.size() + parallelism - 1) / parallelism;
+            var runs = new ArrayList<CompletableFuture<List<TimeSlotDTO>>>();
+            for (var from = 0; from < ordered.size(); from += runLength) {
+                var run = ordered.subList(from, Math.min(from + runLength, ordered.size()));
+                runs.add(CompletableFuture.supplyAsync(() -> {
+                    var occupancy = new DayOccupancy();
+                    var slots = new ArrayList<TimeSlotDTO>();
+                    for (var date : run) {
+                        slots.addAll(getDaySlots(date, periods.get(date), capacitiesByDate.get(date), busyRangesByDate.get(date), durationMinutes, occupancy));
+                    }
+                    return slots;
+                }, parallelExecutor));
+            }
+            runs.forEach(run -> availableSlots.addAll(run.join()));
+        } else {
+            var occupancy = new DayOccupancy();
+            for (var date : dates) {
+                availableSlots.addAll(getDaySlots(date, periods.get(date), capacitiesByDate.get(date), busyRangesByDate.get(date), durationMinutes, occupancy));
+            }
+        }
 
-            for (TimeRangeDTO(LocalTime start, LocalTime end) : dayPeriods) {
-                if (!start.isBefore(end)) continue;
+        return availableSlots;
+    }
 
-                while (!start.plusMinutes(durationMinutes).isAfter(end)) {
-                    var slotEnd = start.plusMinutes(durationMinutes);
-                    var finalCursor = start;
+    /**
+     * Visits the available slots of {@code [from, end)} in chronological order, one window of
+     * {@code windowDays} days at a time, until {@code visitor} returns {@code false}.
+     *
+     * <p>Windows without operating periods issue no reservation query, and only one window's
+     * periods and one day's slots are held at a time.
+     *
+     * @param tenantId the tenant to search
+     * @param from first date to visit
+     * @param end date after the last date to visit
+     * @param windowDays number of dates loaded at once
+     * @param durationMinutes slot length in minutes
+     * @param visitor receives each slot and returns whether to continue
+     */
+    private void walkSlots(UUID tenantId, LocalDate from, LocalDate end, int windowDays, int durationMinutes,
+                           Predicate<TimeSlotDTO> visitor) {
+        var occupancy = new DayOccupancy();
 
-                    var slotTaken = dayReservations.stream().anyMatch(r ->
-                            r.getStartTime().isBefore(slotEnd) &&
-                                    r.getEndTime().isAfter(finalCursor)
-                    );
+        for (var windowStart = from; windowStart.isBefore(end); windowStart = windowStart.plusDays(windowDays)) {
+            var windowEnd = windowStart.plusDays(windowDays).isBefore(end) ? windowStart.plusDays(windowDays) : end;
+            var periods = availabilityIndex.getPeriods(tenantId, getDatesBetween(windowStart, windowEnd.minusDays(1)));
+            if (periods.isEmpty()) continue;
 
-                    if (!slotTaken) {
-                        availableSlots.add(new TimeSlotDTO(date, new TimeRangeDTO(start, slotEnd)));
-                    }
+            var dates = new TreeSet<>(periods.keySet());
+            var busyRangesByDate = availabilityIndex.getBusyRanges(tenantId, dates);
+            var capacitiesByDate = availabilityIndex.getCapacities(tenantId, dates);
+            recordReservationsPerDay(busyRangesByDate);
 
-                    start = start.plusMinutes(durationMinutes);
+            for (var date : dates) {
+                for (var slot : getDaySlots(date, periods.get(date), capacitiesByDate.get(date), busyRangesByDate.get(date), durationMinutes, occupancy)) {
+                    if (!visitor.test(slot)) return;
                 }
             }
         }
+    }
 
-        return availableSlots.stream().sorted(
-                Comparator.comparing(TimeSlotDTO::date)
-                        .thenComparing(slot -> slot.timeRange().start())
-        ).collect(Collectors.toCollection(LinkedHashSet::new));
+    /**
+     * Computes the available slots of a single day, in ascending order.
+     *
+     * @param date the day
+     * @param dayPeriods operating periods of the day
+     * @param capacities capacity of the periods that accept several reservations at a time, or null
+     * @param busyRanges ranges occupied by reservations on the day
+     * @param durationMinutes slot length in minutes
+     * @param occupancy bitmap to compute with; it is cleared first
+     * @return the day's available slots
+     */
+    private List<TimeSlotDTO> getDaySlots(LocalDate date, List<TimeRangeDTO> dayPeriods, Map<TimeRangeDTO, Integer> capacities,
+                                          Collection<TimeRangeDTO> busyRanges, int durationMinutes, DayOccupancy occupancy) {
+        occupancy.clear();
+
+        for (var period : dayPeriods) {
+            var capacity = capacities != null ? capacities.getOrDefault(period, 1) : 1;
+            occupancy.open(period.start(), period.end(), capacity);
+        }
+        for (var busy : busyRanges) {
+            occupancy.occupy(busy.start(), busy.end());
+        }
+        for (var period : dayPeriods) {
+            occupancy.markSlots(period.start(), period.end(), durationMinutes);
+        }
+
+        var slots = new ArrayList<TimeSlotDTO>();
+        occupancy.forEachSlot(start -> slots.add(new TimeSlotDTO(date, new TimeRangeDTO(
+                DayOccupancy.toTime(start),
+                DayOccupancy.toTime(start + durationMinutes)
+        ))));
+        return slots;
+    }
+
+    /**
+     * Records the duration and result size of an availability search.
+     *
+     * <p>Tags are bucketed so the number of time series stays bounded.
+     */
+    private void recordSearch(int rangeDays, int slotCount, long nanos) {
+        searchTimer.withTags(
+                "range", bucket(rangeDays, 1, 7, 31, 92),
+                "slots", bucket(slotCount, 0, 10, 100, 1000)
+        ).record(nanos, TimeUnit.NANOSECONDS);
+        slotsPerSearch.record(slotCount);
+    }
+
+    /**
+     * Records the number of blocking reservations of each scheduled day loaded for a search.
+     */
+    private void recordReservationsPerDay(Map<LocalDate, Collection<TimeRangeDTO>> busyRangesByDate) {
+        busyRangesByDate.values().forEach(busy -> reservationsPerDay.record(busy.size()));
+    }
+
+    /**
+     * Maps a value to the label of the first bound it does not exceed, e.g. {@code "8-31"},
+     * or {@code ">N"} past the last bound.
+     */
+    private static String bucket(int value, int... bounds) {
+        var lower = Integer.MIN_VALUE;
+        for (var bound : bounds) {
+            if (value <= bound) {
+                return lower == Integer.MIN_VALUE || lower + 1 == bound ? String.valueOf(bound) : (lower + 1) + "-" + bound;
+            }
+            lower = bound;
+        }
+        return ">" + lower;
     }
 
     /**
@@ -0,0 +1,121 @@
+package com.statusreserv.reservations.service.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
+import com.statusreserv.reservations.service.service.ServiceProvidedChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant version of the data availability is computed from, used to build ETags for
+ * availability responses.
+ *
+ * <p>The version is bumped after every committed reservation, schedule or service change, so
+ * an unchanged ETag means a recomputation would return the same result. Versions are kept in
+ * memory, for at most {@code availability.index.max-tenants} tenants that searched within
+ * {@code availability.index.tenant-idle}. Every version, including the first one of a tenant
+ * and the one it gets again after eviction, is drawn from a single sequence, so a value is
+ * never reused by this instance.
+ *
+ * <p>The ETag also includes an id of this application instance, so a tag issued by another
+ * instance or before a restart never matches, and the current
+ * {@code availability.index.max-age} period, so tags never outlive the staleness bound of the
+ * {@link AvailabilityIndex} for changes made through another instance.
+ */
+@Component
+public class AvailabilityVersion {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<UUID, Long> versions;
+    private final Duration maxAge;
+
+    public AvailabilityVersion(@Value("${availability.index.max-age:PT5M}") Duration maxAge,
+                               @Value("${availability.index.max-tenants:10000}") long maxTenants,
+                               @Value("${availability.index.tenant-idle:PT30M}") Duration tenantIdle) {
+        this.maxAge = maxAge;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(tenantIdle)
+                .build();
+    }
+
+    /**
+     * Returns the current version of a tenant's availability data.
+     *
+     * @param tenantId the tenant
+     * @return the version, unique within this instance
+     */
+    public long current(UUID tenantId) {
+        return versions.get(tenantId, id -> sequence.incrementAndGet());
+    }
+
+    /**
+     * Builds a strong ETag for an availability search of a tenant.
+     *
+     * @param tenantId the tenant searching
+     * @param request  the search parameters
+     * @param variant  the representation of the response, such as {@code compact-cbor}
+     * @return the quoted entity tag
+     */
+    public String etag(UUID tenantId, AvailabilityRequestDTO request, String variant) {
+        var services = request.services() != null ? new TreeSet<>(request.services()) : new TreeSet<UUID>();
+        var key = String.join("|",
+                instanceId,
+                String.valueOf(tenantId),
+                String.valueOf(current(tenantId)),
+                String.valueOf(System.currentTimeMillis() / Math.max(1, maxAge.toMillis())),
+                String.valueOf(request.from()),
+                String.valueOf(request.to()),
+                services.toString(),
+                variant
+        );
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Bumps the tenant version after a committed reservation change.
+     *
+     * @param event the reservation change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        bump(event.tenantId());
+    }
+
+    /**
+     * Bumps the tenant version after a committed schedule change.
+     *
+     * @param event the schedule change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        bump(event.tenantId());
+    }
+
+    /**
+     * Bumps the tenant version after a committed service change, since service durations
+     * determine slot lengths.
+     *
+     * @param event the service change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceProvidedChanged(ServiceProvidedChangedEvent event) {
+        bump(event.tenantId());
+    }
+
+    private void bump(UUID tenantId) {
+        versions.put(tenantId, sequence.incrementAndGet());
+    }
+}
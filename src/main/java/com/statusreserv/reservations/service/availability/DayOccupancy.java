@@ -0,0 +1,248 @@
+package com.statusreserv.reservations.service.availability;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Minute-granularity occupancy model of a single day.
+ *
+ * <p>The day is represented as three bitsets of 1440 bits (one bit per minute), packed
+ * into {@code long} words:
+ * <ul>
+ *     <li><b>open</b> minutes, taken from the operating windows of the day</li>
+ *     <li><b>busy</b> minutes, taken from the existing reservations of the day</li>
+ *     <li><b>slots</b>, the start minutes of the candidate slots that fit</li>
+ * </ul>
+ *
+ * <p>A minute is free when it is open and not busy. Range checks and free-run searches
+ * operate on whole words, so answering whether {@code N} contiguous minutes are free
+ * costs at most {@code N / 64 + 2} word operations.
+ *
+ * <p>Windows opened with a capacity above one are served by several parallel resources. For
+ * their minutes a sweep counts the reservations running at each minute, and a minute only
+ * becomes busy once that count reaches the capacity; interchangeable resources can always be
+ * assigned in that case, since overlapping intervals never need more resources than their
+ * largest overlap. Windows must therefore be opened before reservations are added. Days
+ * without shared windows never touch the counters.
+ *
+ * <p>Instances are mutable and not thread-safe; they are meant to be reused for every
+ * day of a single computation through {@link #clear()}, so that no garbage is produced
+ * besides the resulting slots.
+ */
+public final class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] open = new long[WORDS];
+    private final long[] busy = new long[WORDS];
+    private final long[] slots = new long[WORDS];
+
+    private final int[] capacity = new int[MINUTES_PER_DAY];
+    private final int[] load = new int[MINUTES_PER_DAY];
+    private boolean shared;
+
+    /**
+     * Resets the model so it can be reused for another day.
+     */
+    public void clear() {
+        Arrays.fill(open, 0L);
+        Arrays.fill(busy, 0L);
+        Arrays.fill(slots, 0L);
+        if (shared) {
+            Arrays.fill(capacity, 0);
+            Arrays.fill(load, 0);
+            shared = false;
+        }
+    }
+
+    /**
+     * Marks an operating window as open. Partial minutes at the edges are not opened.
+     *
+     * @param start start of the window (inclusive)
+     * @param end end of the window (exclusive)
+     */
+    public void open(LocalTime start, LocalTime end) {
+        open(ceilMinute(start), floorMinute(end));
+    }
+
+    /**
+     * Marks the minutes {@code [from, to)} as open.
+     *
+     * @param from first open minute of the day
+     * @param to minute of the day at which the window closes
+     */
+    public void open(int from, int to) {
+        set(open, from, to);
+    }
+
+    /**
+     * Marks an operating window served by {@code capacity} parallel resources as open.
+     * Partial minutes at the edges are not opened.
+     *
+     * @param start start of the window (inclusive)
+     * @param end end of the window (exclusive)
+     * @param capacity number of reservations the window accepts at the same time
+     */
+    public void open(LocalTime start, LocalTime end, int capacity) {
+        var from = ceilMinute(start);
+        var to = floorMinute(end);
+        open(from, to);
+        if (capacity > 1 && from < to) {
+            Arrays.fill(this.capacity, Math.max(from, 0), Math.min(to, MINUTES_PER_DAY), capacity);
+            shared = true;
+        }
+    }
+
+    /**
+     * Marks a reservation as busy, or counts it within windows of a higher capacity. Partial
+     * minutes at the edges are considered busy.
+     *
+     * <p>A reservation whose end is not after its start is assumed to run past midnight
+     * and occupies the rest of the day.
+     *
+     * @param start start of the reservation (inclusive)
+     * @param end end of the reservation (exclusive)
+     */
+    public void occupy(LocalTime start, LocalTime end) {
+        var from = floorMinute(start);
+        var to = ceilMinute(end);
+        occupy(from, to > from ? to : MINUTES_PER_DAY);
+    }
+
+    /**
+     * Marks the minutes {@code [from, to)} as busy, or, within windows of a higher capacity,
+     * adds one to their count.
+     *
+     * @param from first busy minute of the day
+     * @param to minute of the day at which the reservation ends
+     */
+    public void occupy(int from, int to) {
+        if (!shared) {
+            set(busy, from, to);
+            return;
+        }
+
+        from = Math.max(from, 0);
+        to = Math.min(to, MINUTES_PER_DAY);
+        for (var minute = from; minute < to; minute++) {
+            if (++load[minute] >= Math.max(capacity[minute], 1)) {
+                busy[minute >>> 6] |= 1L << minute;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a reservation fits entirely in open, non-busy time. Partial minutes at
+     * the edges must be free as well.
+     *
+     * @param start start of the reservation (inclusive)
+     * @param end end of the reservation (exclusive)
+     * @return true if the whole reservation is free, false otherwise or if it is empty
+     */
+    public boolean isFree(LocalTime start, LocalTime end) {
+        return isFree(floorMinute(start), ceilMinute(end));
+    }
+
+    /**
+     * Checks whether every minute in {@code [from, to)} is open and not busy.
+     *
+     * @param from first minute of the range
+     * @param to end minute of the range (exclusive)
+     * @return true if the whole range is free, false otherwise or if the range is empty
+     */
+    public boolean isFree(int from, int to) {
+        if (from < 0 || to > MINUTES_PER_DAY || from >= to) return false;
+
+        var first = from >>> 6;
+        var last = (to - 1) >>> 6;
+        for (var i = first; i <= last; i++) {
+            var mask = -1L;
+            if (i == first) mask &= -1L << from;
+            if (i == last) mask &= -1L >>> (Long.SIZE - 1 - ((to - 1) & 63));
+            if ((free(i) & mask) != mask) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks every start of the slot grid laid over an operating window whose slot is
+     * entirely free.
+     *
+     * <p>The grid starts at the beginning of the window and advances by {@code duration}
+     * minutes, a slot being accepted only if it also ends within the window.
+     *
+     * @param start start of the window (inclusive)
+     * @param end end of the window (exclusive)
+     * @param duration slot duration in minutes
+     */
+    public void markSlots(LocalTime start, LocalTime end, int duration) {
+        if (duration <= 0 || !start.isBefore(end)) return;
+
+        var windowEnd = floorMinute(end);
+        for (var slot = ceilMinute(start); slot + duration <= windowEnd; slot += duration) {
+            if (isFree(slot, slot + duration)) {
+                slots[slot >>> 6] |= 1L << slot;
+            }
+        }
+    }
+
+    /**
+     * Visits the start minute of every marked slot in ascending order.
+     *
+     * @param action consumer receiving the start minute of each slot
+     */
+    public void forEachSlot(IntConsumer action) {
+        for (var i = 0; i < WORDS; i++) {
+            var word = slots[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Converts a minute of the day into a {@link LocalTime}.
+     *
+     * @param minute minute of the day, between 0 and 1439
+     * @return the corresponding time
+     */
+    public static LocalTime toTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private long free(int word) {
+        return open[word] & ~busy[word];
+    }
+
+    private static void set(long[] bits, int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, MINUTES_PER_DAY);
+        if (from >= to) return;
+
+        var first = from >>> 6;
+        var last = (to - 1) >>> 6;
+        var firstMask = -1L << from;
+        var lastMask = -1L >>> (Long.SIZE - 1 - ((to - 1) & 63));
+
+        if (first == last) {
+            bits[first] |= firstMask & lastMask;
+            return;
+        }
+        bits[first] |= firstMask;
+        for (var i = first + 1; i < last; i++) bits[i] = -1L;
+        bits[last] |= lastMask;
+    }
+
+    private static int floorMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static int ceilMinute(LocalTime time) {
+        var minute = floorMinute(time);
+        return time.equals(LocalTime.of(minute / 60, minute % 60)) ? minute : minute + 1;
+    }
+}
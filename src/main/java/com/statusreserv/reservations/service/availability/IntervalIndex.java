@@ -0,0 +1,102 @@
+package com.statusreserv.reservations.service.availability;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable index of the time covered by a set of ranges within a single day.
+ *
+ * <p>The ranges are sorted and merged into disjoint intervals once, in {@code O(n log n)}.
+ * Because the merged intervals are disjoint, their starts are sorted, so {@link #covers} is
+ * answered with a single binary search, in {@code O(log n)}. Ranges that touch are merged,
+ * so a range spanning two adjacent windows is covered.
+ *
+ * <p>A range whose end is not after its start is assumed to run past midnight and covers the
+ * rest of the day, as in {@link DayOccupancy}.
+ */
+public final class IntervalIndex {
+
+    private static final long END_OF_DAY = LocalTime.MAX.toNanoOfDay() + 1;
+
+    private final long[] starts;
+    private final long[] ends;
+
+    private IntervalIndex(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Builds an index of the time covered by the given ranges.
+     *
+     * @param ranges ranges of the day, in any order and possibly overlapping
+     * @return the index
+     */
+    public static IntervalIndex of(Collection<TimeRangeDTO> ranges) {
+        var sorted = new long[ranges.size()][];
+        var i = 0;
+        for (var range : ranges) {
+            var start = range.start().toNanoOfDay();
+            var end = range.end().toNanoOfDay();
+            sorted[i++] = new long[]{start, end > start ? end : END_OF_DAY};
+        }
+        Arrays.sort(sorted, (a, b) -> Long.compare(a[0], b[0]));
+
+        var starts = new long[sorted.length];
+        var ends = new long[sorted.length];
+        var size = 0;
+        for (var interval : sorted) {
+            if (size > 0 && interval[0] <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], interval[1]);
+            } else {
+                starts[size] = interval[0];
+                ends[size] = interval[1];
+                size++;
+            }
+        }
+        return new IntervalIndex(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /**
+     * Returns whether {@code [start, end)} lies entirely within the indexed ranges.
+     *
+     * @param start start of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @return true if every instant of the range is covered
+     */
+    public boolean covers(LocalTime start, LocalTime end) {
+        var from = start.toNanoOfDay();
+        var to = end.toNanoOfDay() > from ? end.toNanoOfDay() : END_OF_DAY;
+        var last = lastStartingBefore(from + 1);
+        return last >= 0 && ends[last] >= to;
+    }
+
+    /**
+     * Returns the number of disjoint intervals left after merging.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the index of the last interval starting strictly before {@code time}, or -1.
+     */
+    private int lastStartingBefore(long time) {
+        var low = 0;
+        var high = starts.length - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            if (starts[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+}
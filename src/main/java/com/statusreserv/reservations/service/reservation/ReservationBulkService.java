@@ -0,0 +1,20 @@
+package com.statusreserv.reservations.service.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationBulkResultDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+
+import java.util.List;
+
+/**
+ * Service responsible for creating reservations in bulk.
+ */
+public interface ReservationBulkService {
+
+    /**
+     * Validates and creates many reservations at once.
+     *
+     * @param writes ReservationWrite DTOs containing reservation data
+     * @return ids of the created reservations and reasons for the rejected ones, by request index
+     */
+    ReservationBulkResultDTO createAll(List<ReservationWrite> writes);
+}
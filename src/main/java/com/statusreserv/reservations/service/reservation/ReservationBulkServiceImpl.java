@@ -0,0 +1,270 @@
+package com.statusreserv.reservations.service.reservation;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationBulkResultDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+import com.statusreserv.reservations.mapper.ReservationMapper;
+import com.statusreserv.reservations.mapper.ReservationServiceMapper;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.repository.service.ServiceProvided;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+import com.statusreserv.reservations.service.availability.DayOccupancy;
+import com.statusreserv.reservations.service.availability.IntervalIndex;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates reservations in bulk, e.g. when importing from another system.
+ *
+ * <p>Instead of validating and inserting each reservation on its own, the whole batch is
+ * processed with a fixed number of queries:
+ * <ul>
+ *     <li>all referenced services, schedules of the affected days of the week and blocking
+ *     reservations of the affected dates are loaded once;</li>
+ *     <li>every affected tenant day is locked with the {@link ReservationLock}, in key order and
+ *     with a single statement;</li>
+ *     <li>reservations are validated in request order against a {@link DayOccupancy} per date,
+ *     which also catches conflicts between reservations of the same batch;</li>
+ *     <li>accepted reservations are inserted with JDBC batching
+ *     ({@code hibernate.jdbc.batch_size}, ordered inserts) every {@code FLUSH_SIZE}
+ *     reservations, after which the persistence context is cleared and only their ids are
+ *     kept.</li>
+ * </ul>
+ *
+ * <p>Rules are the same as for single bookings. Invalid reservations are reported by their
+ * index in the request and do not prevent the valid ones from being created.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationBulkServiceImpl implements ReservationBulkService {
+
+    /**
+     * Maximum number of reservations accepted in a single request.
+     */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    /**
+     * Maximum number of distinct dates in a single request. Each date holds an advisory lock
+     * until commit; this keeps a batch within PostgreSQL's default
+     * {@code max_locks_per_transaction}.
+     */
+    public static final int MAX_DATES_PER_BATCH = 64;
+
+    private static final int FLUSH_SIZE = 500;
+
+    private final ReservationRepository repository;
+    private final ScheduleRepository scheduleRepository;
+    private final ReservationMapper mapper;
+    private final ReservationServiceMapper reservationServiceMapper;
+    private final ServiceProvidedService serviceProvidedService;
+    private final CurrentUserService currentUserService;
+    private final ReservationLock reservationLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    /**
+     * Validates and creates the given reservations for the current tenant.
+     *
+     * <p>A {@link ReservationChangedEvent} is published for every created reservation.
+     *
+     * @param writes the reservations to create, at most {@link #MAX_BATCH_SIZE} over at most
+     *               {@link #MAX_DATES_PER_BATCH} dates
+     * @return ids of the created reservations and reasons for the rejected ones, by request index
+     * @throws IllegalArgumentException if the batch is larger than {@link #MAX_BATCH_SIZE} or
+     *                                  spans more than {@link #MAX_DATES_PER_BATCH} dates
+     */
+    @Transactional
+    public ReservationBulkResultDTO createAll(List<ReservationWrite> writes) {
+        if (writes.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " reservations can be created at once");
+        }
+
+        var created = new TreeMap<Integer, UUID>();
+        var rejected = new TreeMap<Integer, String>();
+        if (writes.isEmpty()) return new ReservationBulkResultDTO(created, rejected);
+
+        var tenant = currentUserService.getCurrentTenant();
+        var dates = writes.stream()
+                .map(ReservationWrite::date)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (dates.size() > MAX_DATES_PER_BATCH) {
+            throw new IllegalArgumentException("Reservations of at most " + MAX_DATES_PER_BATCH + " dates can be created at once");
+        }
+
+        reservationLock.lockAll(tenant.getId(), dates);
+
+        var services = getServices(writes);
+        var windows = getWindows(tenant.getId(), dates);
+        var openings = new EnumMap<DayOfWeek, IntervalIndex>(DayOfWeek.class);
+        windows.forEach((day, dayWindows) -> openings.put(day, IntervalIndex.of(dayWindows.keySet())));
+        var days = getDays(tenant.getId(), dates, windows);
+
+        var chunk = new LinkedHashMap<Integer, Reservation>();
+        for (var i = 0; i < writes.size(); i++) {
+            try {
+                chunk.put(i, prepare(writes.get(i), tenant, services, openings, days));
+            } catch (IllegalArgumentException e) {
+                rejected.put(i, e.getMessage());
+            }
+            if (chunk.size() == FLUSH_SIZE) {
+                persist(tenant.getId(), chunk, created);
+            }
+        }
+        if (!chunk.isEmpty()) persist(tenant.getId(), chunk, created);
+
+        return new ReservationBulkResultDTO(created, rejected);
+    }
+
+    /**
+     * Builds and validates a single reservation, marking its time as busy when it is accepted.
+     *
+     * @throws IllegalArgumentException if the reservation is invalid
+     */
+    private Reservation prepare(ReservationWrite write,
+                                Tenant tenant,
+                                Map<UUID, ServiceProvided> services,
+                                Map<DayOfWeek, IntervalIndex> openings,
+                                Map<LocalDate, DayOccupancy> days) {
+        if (write.date() == null || write.startTime() == null) {
+            throw new IllegalArgumentException("Reservation date and start time are required");
+        }
+
+        var reservation = mapper.toEntity(write, tenant);
+        var reservationServices = Optional.ofNullable(write.serviceProvidedIds()).orElse(Set.of()).stream()
+                .map(services::get)
+                .filter(Objects::nonNull)
+                .map(service -> reservationServiceMapper.toEntity(service, tenant).withReservation(reservation))
+                .toList();
+
+        if (reservationServices.isEmpty()) {
+            throw new IllegalArgumentException("No services found for the provided IDs");
+        }
+
+        var totalDuration = reservationServices.stream().mapToInt(ReservationServiceProvided::getDurationMinutes).sum();
+        var totalPrice = reservationServices.stream()
+                .map(ReservationServiceProvided::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        reservation.setReservationServices(new ArrayList<>(reservationServices));
+        reservation.setEndTime(reservation.getStartTime().plusMinutes(totalDuration));
+        reservation.setTotalPrice(totalPrice);
+        reservation.setStatus(Status.PENDING);
+
+        if (!reservation.getStartTime().isBefore(reservation.getEndTime())) {
+            throw new IllegalArgumentException(String.format(
+                    "Service has invalid time range: %s to %s.",
+                    reservation.getStartTime(),
+                    reservation.getEndTime()
+            ));
+        }
+
+        var dayOpenings = openings.get(reservation.getDate().getDayOfWeek());
+        if (dayOpenings == null || !dayOpenings.covers(reservation.getStartTime(), reservation.getEndTime())) {
+            throw new IllegalArgumentException(String.format(
+                    "Reservation from %s to %s on %s is outside working hours.",
+                    reservation.getStartTime(),
+                    reservation.getEndTime(),
+                    reservation.getDate()
+            ));
+        }
+
+        var day = days.get(reservation.getDate());
+        if (!day.isFree(reservation.getStartTime(), reservation.getEndTime())) {
+            throw new IllegalArgumentException(String.format(
+                    "Reservation from %s to %s on %s overlaps with existing reservation.",
+                    reservation.getStartTime(),
+                    reservation.getEndTime(),
+                    reservation.getDate()
+            ));
+        }
+
+        day.occupy(reservation.getStartTime(), reservation.getEndTime());
+        return reservation;
+    }
+
+    private Map<UUID, ServiceProvided> getServices(List<ReservationWrite> writes) {
+        var ids = writes.stream()
+                .map(ReservationWrite::serviceProvidedIds)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) return Map.of();
+        return serviceProvidedService.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(ServiceProvided::getId, Function.identity()));
+    }
+
+    /**
+     * Loads the opening windows of the given dates' days of the week, with the capacity of
+     * the schedule each window belongs to.
+     */
+    private Map<DayOfWeek, Map<TimeRangeDTO, Integer>> getWindows(UUID tenantId, Set<LocalDate> dates) {
+        var windows = new EnumMap<DayOfWeek, Map<TimeRangeDTO, Integer>>(DayOfWeek.class);
+        if (dates.isEmpty()) return windows;
+
+        var days = dates.stream().map(LocalDate::getDayOfWeek).collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+        for (Schedule schedule : scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(tenantId, days)) {
+            var dayWindows = windows.computeIfAbsent(schedule.getDayOfWeek(), day -> new LinkedHashMap<>());
+            schedule.getScheduleTime().forEach(time ->
+                    dayWindows.put(new TimeRangeDTO(time.getOpenTime(), time.getCloseTime()), schedule.getCapacity())
+            );
+        }
+        return windows;
+    }
+
+    /**
+     * Builds the occupancy of every date from its opening windows and the ranges of the
+     * blocking reservations already stored, read with one query while the dates are locked.
+     */
+    private Map<LocalDate, DayOccupancy> getDays(UUID tenantId, NavigableSet<LocalDate> dates, Map<DayOfWeek, Map<TimeRangeDTO, Integer>> windows) {
+        var days = new HashMap<LocalDate, DayOccupancy>();
+        if (dates.isEmpty()) return days;
+
+        for (var date : dates) {
+            var day = new DayOccupancy();
+            windows.getOrDefault(date.getDayOfWeek(), Map.of()).forEach((window, capacity) -> day.open(window.start(), window.end(), capacity));
+            days.put(date, day);
+        }
+
+        for (var existing : repository.findBusyRanges(tenantId, dates.first(), dates.last(), AvailabilityIndex.BLOCKING_STATUSES)) {
+            var day = days.get(existing.date());
+            if (day != null) day.occupy(existing.startTime(), existing.endTime());
+        }
+        return days;
+    }
+
+    /**
+     * Inserts a chunk of accepted reservations as JDBC batches, then clears the persistence
+     * context and the chunk, keeping only the ids of the created reservations.
+     */
+    private void persist(UUID tenantId, Map<Integer, Reservation> chunk, Map<Integer, UUID> created) {
+        repository.saveAll(new ArrayList<>(chunk.values()));
+        entityManager.flush();
+        entityManager.clear();
+
+        chunk.forEach((index, reservation) -> {
+            created.put(index, reservation.getId());
+            eventPublisher.publishEvent(ReservationChangedEvent.of(tenantId, reservation));
+        });
+        chunk.clear();
+    }
+}
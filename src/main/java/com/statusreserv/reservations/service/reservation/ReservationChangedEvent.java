@@ -0,0 +1,42 @@
+package com.statusreserv.reservations.service.reservation;
+
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.Status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Published when a reservation is created or its status changes.
+ *
+ * <p>Carries the state of the reservation after the change, so listeners can update
+ * derived data without reading it back from the database.
+ */
+public record ReservationChangedEvent(
+        UUID tenantId,
+        UUID reservationId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        Status status
+) {
+
+    /**
+     * Builds an event from the current state of a reservation.
+     *
+     * @param tenantId the tenant owning the reservation
+     * @param reservation the changed reservation
+     * @return the event describing the reservation
+     */
+    public static ReservationChangedEvent of(UUID tenantId, Reservation reservation) {
+        return new ReservationChangedEvent(
+                tenantId,
+                reservation.getId(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getStatus()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.statusreserv.reservations.service.reservation;
+
+import com.statusreserv.reservations.model.reservation.Reservation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last reservation of a page in the {@code (date, startTime, id)} ordering.
+ *
+ * <p>Cursors are exchanged with clients as opaque URL-safe Base64 strings.
+ *
+ * @param date      date of the last reservation returned
+ * @param startTime start time of the last reservation returned
+ * @param id        id of the last reservation returned
+ */
+public record ReservationCursor(LocalDate date, LocalTime startTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Builds the cursor pointing after the given reservation.
+     *
+     * @param reservation the last reservation of a page
+     * @return the cursor
+     */
+    public static ReservationCursor after(Reservation reservation) {
+        return new ReservationCursor(reservation.getDate(), reservation.getStartTime(), reservation.getId());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the value is not a valid cursor
+     */
+    public static ReservationCursor decode(String value) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+            if (parts.length != 3) throw new IllegalArgumentException("Invalid cursor");
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encodes the cursor for use in a response.
+     *
+     * @return the URL-safe encoded cursor
+     */
+    public String encode() {
+        var raw = date + SEPARATOR + startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,14 +1,15 @@
 package com.statusreserv.reservations.service.reservation;
 
 import com.statusreserv.reservations.dto.reservation.ReservationDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationFilter;
+import com.statusreserv.reservations.dto.reservation.ReservationPageDTO;
 import com.statusreserv.reservations.dto.reservation.ReservationWrite;
 import com.statusreserv.reservations.model.reservation.Reservation;
 import com.statusreserv.reservations.model.reservation.Status;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service responsible for managing reservations.
@@ -17,18 +18,23 @@ import java.util.UUID;
 public interface ReservationService {
 
     /**
-     * Retrieves all reservations as DTOs.
+     * Retrieves one page of reservations matching the filter.
      *
-     * @return List of ReservationDTO
+     * @param filter optional date range and statuses
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param limit  maximum number of reservations in the page
+     * @return the page and the cursor of the next one
      */
-    List<ReservationDTO> findAll();
+    ReservationPageDTO findAll(ReservationFilter filter, String cursor, int limit);
 
     /**
-     * Retrieves all reservations as entities.
+     * Passes every reservation matching the filter to the consumer, in page order,
+     * without holding the whole result in memory.
      *
-     * @return Set of Reservation entities
+     * @param filter   optional date range and statuses
+     * @param consumer receives each reservation as it is read
      */
-    Set<Reservation> getAll();
+    void export(ReservationFilter filter, Consumer<ReservationDTO> consumer);
 
     /**
      * Finds a reservation by its UUID.
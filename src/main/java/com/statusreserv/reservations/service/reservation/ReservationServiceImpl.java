@@ -1,6 +1,8 @@
 package com.statusreserv.reservations.service.reservation;
 
 import com.statusreserv.reservations.dto.reservation.ReservationDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationFilter;
+import com.statusreserv.reservations.dto.reservation.ReservationPageDTO;
 import com.statusreserv.reservations.dto.reservation.ReservationWrite;
 import com.statusreserv.reservations.mapper.ReservationMapper;
 import com.statusreserv.reservations.model.reservation.Reservation;
@@ -10,18 +12,28 @@ import com.statusreserv.reservations.repository.ReservationRepository;
 import com.statusreserv.reservations.repository.service.ServiceProvided;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
 import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static com.statusreserv.reservations.service.availability.AvailabilityIndex.BLOCKING_STATUSES;
+
 /**
  * Service responsible for managing reservations.
  *
@@ -33,28 +45,103 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    /**
+     * Maximum number of reservations returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Number of exported reservations whose services are fetched together. Matches the
+     * batch size of {@link Reservation#getReservationServices()}.
+     */
+    static final int EXPORT_CHUNK_SIZE = 100;
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final ReservationRepository repository;
     private final ReservationMapper mapper;
     private final CurrentUserService currentUserService;
     private final ReservationValidator validator;
+    private final ReservationLock reservationLock;
     private final ServiceProvidedService serviceProvidedService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Retrieves all reservations for the current tenant.
+     * Retrieves one page of the current tenant's reservations ordered by date, start time and id.
+     *
+     * <p>Pages are addressed with a {@link ReservationCursor} on the last row returned, so
+     * fetching a page costs the same regardless of how far into the history it is. The
+     * services of the page are loaded with one additional query rather than one per row.
      *
-     * @return a list of {@link ReservationDTO} objects
+     * @param filter optional date range and statuses; missing values match everything
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param limit  maximum number of reservations in the page, between 1 and {@link #MAX_PAGE_SIZE}
+     * @return the page, with a null {@code nextCursor} when it is the last one
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
      */
-    public List<ReservationDTO> findAll() {
-        return getAll().stream().map(mapper::toDTO).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public ReservationPageDTO findAll(ReservationFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var tenantId = currentUserService.getCurrentTenantId();
+        var from = from(filter);
+        var to = to(filter);
+        var statuses = statuses(filter);
+
+        List<Reservation> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findPage(tenantId, from, to, statuses, Limit.of(limit + 1));
+        } else {
+            var after = ReservationCursor.decode(cursor);
+            rows = repository.findPageAfter(tenantId, from, to, statuses,
+                    after.date(), after.startTime(), after.id(), Limit.of(limit + 1));
+        }
+
+        var hasNext = rows.size() > limit;
+        var page = hasNext ? rows.subList(0, limit) : rows;
+        if (!page.isEmpty()) repository.fetchServices(page);
+        var nextCursor = hasNext ? ReservationCursor.after(page.getLast()).encode() : null;
+
+        return new ReservationPageDTO(page.stream().map(mapper::toDTO).toList(), nextCursor);
     }
 
     /**
-     * Retrieves all reservation entities for the current tenant.
+     * Streams the current tenant's reservations matching the filter to the consumer.
      *
-     * @return a set of {@link Reservation} entities
+     * <p>Rows are read from a database cursor in chunks of {@value #EXPORT_CHUNK_SIZE}; the
+     * services of each chunk are fetched with one query, and rows are detached once mapped, so
+     * memory use does not grow with the size of the tenant's history.
+     *
+     * @param filter   optional date range and statuses; missing values match everything
+     * @param consumer receives each reservation as it is read
      */
-    public Set<Reservation> getAll() {
-        return new HashSet<>(repository.findByTenantId(currentUserService.getCurrentTenantId()));
+    @Transactional(readOnly = true)
+    public void export(ReservationFilter filter, Consumer<ReservationDTO> consumer) {
+        var tenantId = currentUserService.getCurrentTenantId();
+        var chunk = new ArrayList<Reservation>(EXPORT_CHUNK_SIZE);
+
+        try (var reservations = repository.streamAll(tenantId, from(filter), to(filter), statuses(filter))) {
+            reservations.forEach(reservation -> {
+                chunk.add(reservation);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) exportChunk(chunk, consumer);
+            });
+        }
+        exportChunk(chunk, consumer);
+    }
+
+    private void exportChunk(List<Reservation> chunk, Consumer<ReservationDTO> consumer) {
+        if (chunk.isEmpty()) return;
+
+        repository.fetchServices(chunk);
+        for (var reservation : chunk) {
+            consumer.accept(mapper.toDTO(reservation));
+            entityManager.detach(reservation);
+        }
+        chunk.clear();
     }
 
     /**
@@ -64,6 +151,7 @@ public class ReservationServiceImpl implements ReservationService {
      * @return a {@link ReservationDTO} representing the reservation
      * @throws EntityNotFoundException if no reservation exists with the given ID
      */
+    @Transactional(readOnly = true)
     public ReservationDTO findReservation(UUID id) {
         return mapper.toDTO(getById(id));
     }
@@ -85,6 +173,11 @@ public class ReservationServiceImpl implements ReservationService {
      *
      * <p>Associates services provided, calculates total price and duration,
      * sets the reservation status to {@link Status#PENDING}, and validates business rules.
+     * A {@link ReservationChangedEvent} is published once the reservation is stored.
+     *
+     * <p>Validation and insert run while holding the {@link ReservationLock} of the tenant day,
+     * so concurrent bookings of the same slot cannot both pass validation. The call is timed
+     * as {@code reservation.create}, tagged {@code created}, {@code rejected} or {@code error}.
      *
      * @param write the data to create the reservation
      * @return the UUID of the newly created reservation
@@ -92,6 +185,25 @@ public class ReservationServiceImpl implements ReservationService {
      */
     @Transactional
     public UUID create(ReservationWrite write) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = "error";
+        try {
+            var id = doCreate(write);
+            outcome = "created";
+            return id;
+        } catch (IllegalArgumentException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("reservation.create")
+                    .description("Time spent creating a reservation, by validation outcome")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private UUID doCreate(ReservationWrite write) {
         var reservation = mapper.toEntity(write, currentUserService.getCurrentTenant());
         var reservationServiceList = getServiceProvidedService(serviceProvidedService.findByIdIn(write.serviceProvidedIds()));
 
@@ -116,23 +228,50 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.setTotalPrice(totalPrice);
         reservation.setStatus(Status.PENDING);
 
+        reservationLock.lock(reservation.getTenant().getId(), reservation.getDate());
+        validator.validateReservation(reservation, null);
+
         var entity = repository.save(reservation);
-        validator.validateReservation(entity, entity.getId());
+        eventPublisher.publishEvent(ReservationChangedEvent.of(entity.getTenant().getId(), entity));
         return entity.getId();
     }
 
     /**
-     * Updates the status of a reservation.
+     * Updates the status of a reservation and publishes a {@link ReservationChangedEvent}.
+     *
+     * <p>A reservation moving back into a blocking status (e.g. a cancelled one being
+     * confirmed again) takes its slot like a new booking, so it is validated under the same
+     * per-day lock as {@link #create(ReservationWrite)}.
      *
      * @param id     the UUID of the reservation
      * @param status the new status to set
-     * @throws EntityNotFoundException if no reservation exists with the given ID
+     * @throws EntityNotFoundException  if no reservation exists with the given ID
+     * @throws IllegalArgumentException if the reactivated reservation no longer fits its slot
      */
     @Transactional
     public void updateStatus(UUID id, Status status) {
         var existing = getById(id);
+        if (!BLOCKING_STATUSES.contains(existing.getStatus()) && BLOCKING_STATUSES.contains(status)) {
+            reservationLock.lock(existing.getTenant().getId(), existing.getDate());
+            validator.validateReservation(existing, existing.getId());
+        }
         existing.setStatus(status);
         repository.save(existing);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(existing.getTenant().getId(), existing));
+    }
+
+    private static LocalDate from(ReservationFilter filter) {
+        return filter != null && filter.from() != null ? filter.from() : MIN_DATE;
+    }
+
+    private static LocalDate to(ReservationFilter filter) {
+        return filter != null && filter.to() != null ? filter.to() : MAX_DATE;
+    }
+
+    private static Set<Status> statuses(ReservationFilter filter) {
+        return filter != null && filter.status() != null && !filter.status().isEmpty()
+                ? EnumSet.copyOf(filter.status())
+                : EnumSet.allOf(Status.class);
     }
 
     /**
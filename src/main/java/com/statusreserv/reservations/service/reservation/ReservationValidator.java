@@ -1,69 +1,66 @@
 package com.statusreserv.reservations.service.reservation;
 
 import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
-import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
 import com.statusreserv.reservations.model.reservation.Reservation;
 import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
 import com.statusreserv.reservations.model.schedule.Schedule;
 import com.statusreserv.reservations.repository.ReservationRepository;
 import com.statusreserv.reservations.repository.ScheduleRepository;
-import com.statusreserv.reservations.service.availability.AvailabilityService;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+import com.statusreserv.reservations.service.availability.DayOccupancy;
+import com.statusreserv.reservations.service.availability.IntervalIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
- * Validates reservations against schedule, availability, and overlapping constraints.
+ * Validates reservations against schedule and overlapping constraints.
+ *
+ * <p>The day's opening windows are indexed in an {@link IntervalIndex}. Overlaps are checked
+ * in the database with a single probe of the reservation time range index, so no
+ * reservation is loaded. If any schedule of the day has a capacity above one, the whole day
+ * is validated by capacity instead: the day's reservation ranges are loaded and counted per
+ * minute with a {@link DayOccupancy}. Windows of the other schedules keep a capacity of one
+ * there, so they accept the same reservations as with the overlap probe.
  */
 @Component
 @RequiredArgsConstructor
 public class ReservationValidator {
 
     private final ReservationRepository reservationRepository;
-    private final AvailabilityService availabilityService;
     private final ScheduleRepository scheduleRepository;
 
     /**
-     * Validates a reservation, checking services, schedule, overlaps, and available time slots.
+     * Validates a reservation, checking services, schedule and overlaps.
      *
      * @param reservation Reservation to validate
      * @param ignoreId ID to ignore during overlap checks (for updates)
+     * @throws IllegalArgumentException if the reservation is invalid
      */
     public void validateReservation(Reservation reservation, UUID ignoreId) {
         reservation.getReservationServices().forEach(this::validateServiceTime);
 
-        var totalDuration = reservation.getReservationServices()
-                .stream()
-                .mapToInt(ReservationServiceProvided::getDurationMinutes)
-                .sum();
-
-        var schedules = scheduleRepository.findByTenantIdAndDayOfWeek(
-                reservation.getTenant().getId(), reservation.getDate().getDayOfWeek()
-        );
-
-        checkWithinSchedule(schedules, reservation);
-
-        var existingReservations = reservationRepository.findByTenantIdAndDate(
-                        reservation.getTenant().getId(), reservation.getDate()
-                ).stream()
-                .filter(r -> !r.getId().equals(ignoreId))
-                .toList();
+        var tenantId = reservation.getTenant().getId();
+        var schedules = scheduleRepository.findByTenantIdAndDayOfWeek(tenantId, reservation.getDate().getDayOfWeek());
 
-        var availableTimeSlots = availabilityService.getAvailableTimeSlots(
-                Map.of(reservation.getDate(),
-                        existingReservations.stream()
-                                .map(r -> new TimeRangeDTO(r.getStartTime(), r.getEndTime()))
-                                .toList()
-                ),
-                totalDuration
-        );
-
-        checkOverlap(existingReservations, reservation);
-        checkAvailableTimeSlots(availableTimeSlots, reservation);
+        var windows = new ArrayList<TimeRangeDTO>();
+        for (var schedule : schedules) {
+            schedule.getScheduleTime().forEach(time -> windows.add(new TimeRangeDTO(time.getOpenTime(), time.getCloseTime())));
+        }
+        checkWithinSchedule(IntervalIndex.of(windows), reservation);
+
+        if (schedules.stream().allMatch(schedule -> schedule.getCapacity() <= 1)) {
+            checkOverlap(tenantId, reservation, ignoreId);
+        } else {
+            var existing = reservationRepository.findBusyRanges(
+                    tenantId, reservation.getDate(), reservation.getDate(), AvailabilityIndex.BLOCKING_STATUSES
+            ).stream().filter(r -> !r.id().equals(ignoreId)).toList();
+            checkCapacity(schedules, existing, reservation);
+        }
     }
 
     private void validateServiceTime(ReservationServiceProvided service) {
@@ -76,15 +73,8 @@ public class ReservationValidator {
         }
     }
 
-    private void checkWithinSchedule(List<Schedule> schedules, Reservation reservation) {
-        var withinSchedule = schedules.stream().anyMatch(
-                schedule -> schedule.getScheduleTime().stream().anyMatch(
-                        time -> !reservation.getStartTime().isBefore(time.getOpenTime()) &&
-                                !reservation.getEndTime().isAfter(time.getCloseTime())
-                )
-        );
-
-        if (!withinSchedule) {
+    private void checkWithinSchedule(IntervalIndex windows, Reservation reservation) {
+        if (!windows.covers(reservation.getStartTime(), reservation.getEndTime())) {
             throw new IllegalArgumentException(String.format(
                     "Reservation from %s to %s on %s is outside working hours.",
                     reservation.getStartTime(),
@@ -94,15 +84,20 @@ public class ReservationValidator {
         }
     }
 
-    private void checkOverlap(List<Reservation> existing, Reservation reservation) {
-        var overlaps = existing.stream().anyMatch(
-                r -> reservation.getStartTime().isBefore(r.getEndTime()) &&
-                        reservation.getEndTime().isAfter(r.getStartTime())
-        );
+    /**
+     * Checks a reservation on a day with parallel resources: every minute it spans must have
+     * fewer overlapping reservations than the capacity of its schedule.
+     */
+    private void checkCapacity(List<Schedule> schedules, List<ReservationRangeDTO> existing, Reservation reservation) {
+        var occupancy = new DayOccupancy();
+        for (var schedule : schedules) {
+            schedule.getScheduleTime().forEach(time -> occupancy.open(time.getOpenTime(), time.getCloseTime(), schedule.getCapacity()));
+        }
+        existing.forEach(r -> occupancy.occupy(r.startTime(), r.endTime()));
 
-        if (overlaps) {
+        if (!occupancy.isFree(reservation.getStartTime(), reservation.getEndTime())) {
             throw new IllegalArgumentException(String.format(
-                    "Reservation from %s to %s on %s overlaps with existing reservation.",
+                    "Reservation from %s to %s on %s overlaps with existing reservations at full capacity.",
                     reservation.getStartTime(),
                     reservation.getEndTime(),
                     reservation.getDate()
@@ -110,15 +105,18 @@ public class ReservationValidator {
         }
     }
 
-    private void checkAvailableTimeSlots(Set<TimeSlotDTO> availableTimeSlots, Reservation reservation) {
-        var isUnavailable = availableTimeSlots.stream().noneMatch(
-                slot -> !reservation.getStartTime().isBefore(slot.timeRange().start()) &&
-                        !reservation.getEndTime().isAfter(slot.timeRange().end())
+    private void checkOverlap(UUID tenantId, Reservation reservation, UUID ignoreId) {
+        var overlaps = reservationRepository.existsOverlapping(
+                tenantId,
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                AvailabilityIndex.BLOCKING_STATUSES,
+                ignoreId
         );
-
-        if (isUnavailable) {
+        if (overlaps) {
             throw new IllegalArgumentException(String.format(
-                    "Chosen time %s to %s for reservation on %s is not available.",
+                    "Reservation from %s to %s on %s overlaps with existing reservation.",
                     reservation.getStartTime(),
                     reservation.getEndTime(),
                     reservation.getDate()
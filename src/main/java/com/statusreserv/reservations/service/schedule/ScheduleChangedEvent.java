@@ -0,0 +1,11 @@
+package com.statusreserv.reservations.service.schedule;
+
+import java.util.UUID;
+
+/**
+ * Published when a schedule of a tenant is created, updated or deleted.
+ *
+ * @param tenantId the tenant whose schedules changed
+ */
+public record ScheduleChangedEvent(UUID tenantId) {
+}
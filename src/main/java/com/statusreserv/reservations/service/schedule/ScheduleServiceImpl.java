@@ -8,6 +8,7 @@ import com.statusreserv.reservations.repository.ScheduleRepository;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +23,8 @@ import java.util.stream.Collectors;
  * for the current tenant.
  *
  * <p>Provides operations to create, retrieve, update, and delete schedules,
- * including mapping between DTOs and entities and tenant scoping.
+ * including mapping between DTOs and entities and tenant scoping. Every change
+ * publishes a {@link ScheduleChangedEvent}.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,12 +34,14 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final ScheduleMapper mapper;
     private final CurrentUserService currentUserService;
     private final ScheduleValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all schedules as DTOs for the current tenant.
      *
      * @return a list of {@link ScheduleDTO} representing all schedules
      */
+    @Transactional(readOnly = true)
     public List<ScheduleDTO> findAll() {
         return getAll()
                 .stream()
@@ -61,6 +65,7 @@ public class ScheduleServiceImpl implements ScheduleService {
      * @return a {@link ScheduleDTO} representing the schedule
      * @throws EntityNotFoundException if no schedule exists with the given id
      */
+    @Transactional(readOnly = true)
     public ScheduleDTO findSchedule(UUID id) {
         return mapper.toDTO(getById(id));
     }
@@ -94,6 +99,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         var entity = repository.save(schedule);
         validator.validateSchedule(entity, entity.getId());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(entity.getTenant().getId()));
         return entity.getId();
     }
 
@@ -115,8 +121,11 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         existing.setScheduleTime(scheduleTimes);
         existing.setDayOfWeek(write.dayOfWeek());
+        existing.setCapacity(write.capacity() != null ? write.capacity() : 1);
+        validator.validateSchedule(existing, existing.getId());
 
         repository.save(existing);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(currentUserService.getCurrentTenantId()));
     }
 
     /**
@@ -130,6 +139,8 @@ public class ScheduleServiceImpl implements ScheduleService {
         if (!repository.existsById(id)) {
             throw new EntityNotFoundException("Schedule not found");
         }
-        repository.deleteByIdAndTenantId(id, currentUserService.getCurrentTenantId());
+        var tenantId = currentUserService.getCurrentTenantId();
+        repository.deleteByIdAndTenantId(id, tenantId);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(tenantId));
     }
 }
@@ -36,6 +36,10 @@ public class ScheduleValidator {
         var day = schedule.getDayOfWeek();
         var newTimes = schedule.getScheduleTime();
 
+        if (schedule.getCapacity() < 1) {
+            throw new IllegalArgumentException("Schedule capacity must be at least 1");
+        }
+
         // Validate individual schedule times
         newTimes.forEach(this::validateTime);
 
@@ -0,0 +1,11 @@
+package com.statusreserv.reservations.service.service;
+
+import java.util.UUID;
+
+/**
+ * Published when a service of a tenant is created, updated or deleted.
+ *
+ * @param tenantId the tenant whose services changed
+ */
+public record ServiceProvidedChangedEvent(UUID tenantId) {
+}
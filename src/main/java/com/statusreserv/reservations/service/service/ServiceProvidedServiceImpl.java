@@ -8,6 +8,7 @@ import com.statusreserv.reservations.repository.ServiceProvidedRepository;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,8 @@ import java.util.stream.Collectors;
  * tenant services, including CRUD operations.
  *
  * <p>Handles mapping between DTOs and entities, tenant scoping, and persistence.
+ * Reads go through the repository finders, which the Hibernate second-level cache serves
+ * from memory. Every change publishes a {@link ServiceProvidedChangedEvent}.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,14 +32,16 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
     private final ServiceProvidedRepository repository;
     private final ServiceProvidedMapper mapper;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all services for the current tenant.
      *
      * @return a list of {@link ServiceProvidedDTO} representing all services
      */
+    @Transactional(readOnly = true)
     public List<ServiceProvidedDTO> findAll() {
-        return repository.findAll()
+        return repository.findByTenantId(currentUserService.getCurrentTenantId())
                 .stream()
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
@@ -49,6 +54,7 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
      * @return a {@link ServiceProvidedDTO} representing the service
      * @throws EntityNotFoundException if no service exists with the given id
      */
+    @Transactional(readOnly = true)
     public ServiceProvidedDTO findService(UUID id) {
         return mapper.toDTO(findById(id));
     }
@@ -60,6 +66,7 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
      * @return the {@link ServiceProvided} entity
      * @throws EntityNotFoundException if no service exists with the given id
      */
+    @Transactional(readOnly = true)
     public ServiceProvided findById(UUID id) {
         return repository.findByIdAndTenantId(id, currentUserService.getCurrentTenantId())
                 .orElseThrow(() -> new EntityNotFoundException("Service not found"));
@@ -68,10 +75,15 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
     /**
      * Retrieves a list of service entities by a set of UUIDs.
      *
+     * <p>Unknown ids are ignored.
+     *
      * @param ids the set of service UUIDs
      * @return a list of {@link ServiceProvided} entities
      */
+    @Transactional(readOnly = true)
     public List<ServiceProvided> findByIdIn(Set<UUID> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
         return repository.findByIdInAndTenantId(ids, currentUserService.getCurrentTenantId());
     }
 
@@ -84,7 +96,9 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
     @Transactional
     public UUID create(ServiceProvidedWrite write) {
         var service = mapper.toEntity(write, currentUserService.getCurrentTenant());
-        return repository.save(service).getId();
+        var entity = repository.save(service);
+        eventPublisher.publishEvent(new ServiceProvidedChangedEvent(entity.getTenant().getId()));
+        return entity.getId();
     }
 
     /**
@@ -96,7 +110,8 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
      */
     @Transactional
     public void update(UUID id, ServiceProvidedWrite write) {
-        var existing = findById(id);
+        var existing = repository.findByIdAndTenantId(id, currentUserService.getCurrentTenantId())
+                .orElseThrow(() -> new EntityNotFoundException("Service not found"));
 
         existing.setName(write.name());
         existing.setDescription(write.description());
@@ -104,6 +119,7 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
         existing.setDurationMinutes(write.durationMinutes());
 
         repository.save(existing);
+        eventPublisher.publishEvent(new ServiceProvidedChangedEvent(currentUserService.getCurrentTenantId()));
     }
 
     /**
@@ -114,9 +130,10 @@ public class ServiceProvidedServiceImpl implements ServiceProvidedService {
      */
     @Transactional
     public void delete(UUID id) {
-        if (!repository.existsById(id)) {
-            throw new EntityNotFoundException("Service not found");
-        }
-        repository.deleteById(id);
+        var tenantId = currentUserService.getCurrentTenantId();
+        var existing = repository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new EntityNotFoundException("Service not found"));
+        repository.delete(existing);
+        eventPublisher.publishEvent(new ServiceProvidedChangedEvent(tenantId));
     }
 }
@@ -0,0 +1,106 @@
+-- Baseline matching the schema previously generated by Hibernate (ddl-auto: update).
+-- Databases created before migrations were introduced are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and only apply later migrations.
+
+create table tbl_tenant (
+    id         uuid not null,
+    name       varchar(255),
+    phone      varchar(255),
+    address    varchar(255),
+    email      varchar(255),
+    created_at timestamp(6) with time zone,
+    open_year  timestamp(6) with time zone,
+    enabled    boolean not null,
+    primary key (id)
+);
+
+create table tbl_user_profile (
+    id    uuid not null,
+    name  varchar(255),
+    phone varchar(255),
+    primary key (id)
+);
+
+create table tbl_customers (
+    id         uuid not null,
+    name       varchar(255),
+    email      varchar(255),
+    phone      varchar(255),
+    created_at timestamp(6) with time zone,
+    tenant_id  uuid,
+    primary key (id),
+    constraint fk_customers_tenant foreign key (tenant_id) references tbl_tenant (id)
+);
+
+create table tbl_user_auth (
+    id              uuid not null,
+    email           varchar(255),
+    password        varchar(255),
+    role            varchar(255) check (role in ('ADMIN', 'USER')),
+    token_version   integer default 0 not null,
+    tenant_id       uuid,
+    user_profile_id uuid unique,
+    primary key (id),
+    constraint fk_user_auth_tenant foreign key (tenant_id) references tbl_tenant (id),
+    constraint fk_user_auth_profile foreign key (user_profile_id) references tbl_user_profile (id)
+);
+
+create table tbl_services (
+    id               uuid not null,
+    name             varchar(255),
+    description      varchar(255),
+    price            numeric(38, 2),
+    duration_minutes integer not null,
+    created_at       timestamp(6) with time zone,
+    updated_at       timestamp(6) with time zone,
+    tenant_id        uuid,
+    primary key (id),
+    constraint fk_services_tenant foreign key (tenant_id) references tbl_tenant (id)
+);
+
+create table tbl_schedules (
+    id          uuid not null,
+    day_of_week varchar(255) check (day_of_week in ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')),
+    created_at  timestamp(6) with time zone,
+    tenant_id   uuid,
+    primary key (id),
+    constraint fk_schedules_tenant foreign key (tenant_id) references tbl_tenant (id)
+);
+
+create table tbl_schedule_times (
+    schedule_id uuid not null,
+    open_time   time(6),
+    close_time  time(6),
+    constraint fk_schedule_times_schedule foreign key (schedule_id) references tbl_schedules (id)
+);
+
+create table tbl_reservations (
+    id          uuid not null,
+    date        date,
+    start_time  time(6),
+    end_time    time(6),
+    created_at  timestamp(6) with time zone,
+    total_price numeric(38, 2),
+    status      varchar(255) check (status in ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED')),
+    customer_id uuid,
+    tenant_id   uuid,
+    primary key (id),
+    constraint fk_reservations_customer foreign key (customer_id) references tbl_customers (id),
+    constraint fk_reservations_tenant foreign key (tenant_id) references tbl_tenant (id)
+);
+
+create table tbl_reservation_services (
+    id                  uuid not null,
+    name                varchar(255),
+    description         varchar(255),
+    price               numeric(38, 2),
+    duration_minutes    integer not null,
+    created_at          timestamp(6) with time zone,
+    updated_at          timestamp(6) with time zone,
+    service_provided_id uuid,
+    reservation_id      uuid,
+    tenant_id           uuid,
+    primary key (id),
+    constraint fk_reservation_services_reservation foreign key (reservation_id) references tbl_reservations (id),
+    constraint fk_reservation_services_tenant foreign key (tenant_id) references tbl_tenant (id)
+);
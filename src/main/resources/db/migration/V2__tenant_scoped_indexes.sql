@@ -0,0 +1,18 @@
+-- Availability and booking validation: reservations of a tenant in a date range with given statuses.
+create index idx_reservations_tenant_date_status on tbl_reservations (tenant_id, date, status);
+
+-- Keyset pagination and export: reservations of a tenant ordered by (date, start_time, id).
+create index idx_reservations_tenant_date_start on tbl_reservations (tenant_id, date, start_time, id);
+
+-- Services of a page of reservations.
+create index idx_reservation_services_reservation on tbl_reservation_services (reservation_id);
+
+-- Opening times of a tenant by day of week.
+create index idx_schedules_tenant_day on tbl_schedules (tenant_id, day_of_week);
+create index idx_schedule_times_schedule on tbl_schedule_times (schedule_id);
+
+-- Service catalogue of a tenant.
+create index idx_services_tenant on tbl_services (tenant_id);
+
+-- Login and principal lookups; e-mail addresses identify users.
+create unique index uk_user_auth_email on tbl_user_auth (email);
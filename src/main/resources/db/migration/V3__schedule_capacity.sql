@@ -0,0 +1,4 @@
+-- Number of reservations a schedule accepts at the same time, e.g. the staff on duty.
+-- Existing schedules keep the single-resource behaviour.
+alter table tbl_schedules add column capacity integer not null default 1;
+alter table tbl_schedules add constraint ck_schedules_capacity check (capacity >= 1);
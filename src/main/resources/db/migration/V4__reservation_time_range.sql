@@ -0,0 +1,15 @@
+-- Reservation time as a range, so overlaps can be tested in the database with the && operator.
+-- Reservations whose end is not after their start run until midnight, as in availability.
+alter table tbl_reservations add column time_range tsrange generated always as (
+    tsrange(
+        date + start_time,
+        case when end_time > start_time then date + end_time else (date + 1)::timestamp end,
+        '[)'
+    )
+) stored;
+
+-- btree_gist lets the tenant equality and the range overlap share one GiST index.
+create extension if not exists btree_gist;
+
+-- Booking validation: does any reservation of the tenant overlap a range.
+create index idx_reservations_tenant_time_range on tbl_reservations using gist (tenant_id, time_range);
@@ -3,7 +3,7 @@ package com.statusreserv.reservations;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "api.security.token.secret=test-secret")
 class ReservationsApplicationTests {
 
 	@Test
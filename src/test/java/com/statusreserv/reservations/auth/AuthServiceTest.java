@@ -0,0 +1,56 @@
+package com.statusreserv.reservations.auth;
+
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.repository.UserRepository;
+import com.statusreserv.reservations.service.auth.AuthService;
+import com.statusreserv.reservations.service.auth.TokensRevokedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private AuthService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new AuthService(userRepository, eventPublisher);
+    }
+
+    @Test
+    void revokingTokensBumpsVersionAndPublishesEvent() {
+        var user = new UserAuth();
+        user.setEmail(EMAIL);
+        user.setTokenVersion(3);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        service.revokeTokens(EMAIL);
+
+        assertThat(user.getTokenVersion()).isEqualTo(4);
+        var inOrder = inOrder(userRepository, eventPublisher);
+        inOrder.verify(userRepository).save(user);
+        inOrder.verify(eventPublisher).publishEvent(new TokensRevokedEvent(EMAIL));
+    }
+
+    @Test
+    void revokingTokensOfUnknownUserFails() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.revokeTokens(EMAIL)).isInstanceOf(UsernameNotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,95 @@
+package com.statusreserv.reservations.auth;
+
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.model.user.UserRole;
+import com.statusreserv.reservations.repository.UserRepository;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CurrentUserServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserRepository userRepository;
+    private CurrentUserService service;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = new CurrentUserService(userRepository);
+
+        tenantId = UUID.randomUUID();
+        var user = new UserAuth();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(UserRole.USER);
+        user.setTenant(new Tenant().withId(tenantId));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        var principal = AuthenticatedUser.of(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentUserIsLoadedOncePerRequest() {
+        startRequest();
+
+        var first = service.getCurrentUser();
+        var second = service.getCurrentUser();
+
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void newRequestLoadsCurrentUserAgain() {
+        startRequest();
+        service.getCurrentUser();
+
+        startRequest();
+        service.getCurrentUser();
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void currentUserIsNotMemoizedOutsideRequest() {
+        service.getCurrentUser();
+        service.getCurrentUser();
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void tenantIdIsReadFromPrincipal() {
+        assertThat(service.getCurrentTenantId()).isEqualTo(tenantId);
+        verifyNoInteractions(userRepository);
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
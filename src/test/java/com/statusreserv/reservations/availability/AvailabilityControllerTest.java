@@ -0,0 +1,70 @@
+package com.statusreserv.reservations.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.statusreserv.reservations.controller.AvailabilityController;
+import com.statusreserv.reservations.dto.availability.CompactAvailabilityDTO;
+import com.statusreserv.reservations.service.availability.AvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AvailabilityControllerTest {
+
+    private static final String COMPACT_JSON = "application/vnd.statusreserv.availability.compact+json";
+
+    private AvailabilityService availabilityService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = mock(AvailabilityService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AvailabilityController(availabilityService, new ObjectMapper())).build();
+        when(availabilityService.getETag(any(), eq("compact-json"))).thenReturn("\"json-tag\"");
+        when(availabilityService.getETag(any(), eq("compact-cbor"))).thenReturn("\"cbor-tag\"");
+        when(availabilityService.findCompactAvailability(any())).thenReturn(new CompactAvailabilityDTO(30, List.of(), Set.of()));
+    }
+
+    @Test
+    void compactJsonAndCborHaveDistinctETags() throws Exception {
+        mockMvc.perform(get("/api/availabilities").header(HttpHeaders.ACCEPT, COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(COMPACT_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"json-tag\""));
+
+        mockMvc.perform(get("/api/availabilities").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"cbor-tag\""));
+    }
+
+    @Test
+    void matchingETagIsNotModified() throws Exception {
+        mockMvc.perform(get("/api/availabilities").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"cbor-tag\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void invalidRangeIsBadRequest() throws Exception {
+        when(availabilityService.findCompactAvailability(any()))
+                .thenThrow(new IllegalArgumentException("Start and end dates are required"));
+
+        mockMvc.perform(get("/api/availabilities").param("format", "compact"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,152 @@
+package com.statusreserv.reservations.availability;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+
+    private ScheduleRepository scheduleRepository;
+    private ReservationRepository reservationRepository;
+    private AvailabilityIndex index;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        index = index(Duration.ofMinutes(30), 400);
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void getBusyRanges_loadsOnceAndServesFromMemory() {
+        when(reservationRepository.findBusyRanges(eq(tenantId), any(), any(), any()))
+                .thenReturn(List.of(range(LocalTime.of(9, 0), LocalTime.of(10, 0))));
+
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+        var busy = index.getBusyRanges(tenantId, List.of(MONDAY));
+
+        assertThat(busy.get(MONDAY)).containsExactly(new TimeRangeDTO(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        verify(reservationRepository, times(1)).findBusyRanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void onReservationChanged_updatesLoadedDateWithoutReloading() {
+        when(reservationRepository.findBusyRanges(eq(tenantId), any(), any(), any()))
+                .thenReturn(List.of());
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+
+        var reservationId = UUID.randomUUID();
+        index.onReservationChanged(new ReservationChangedEvent(
+                tenantId, reservationId, MONDAY, LocalTime.of(11, 0), LocalTime.of(11, 30), Status.PENDING
+        ));
+        assertThat(index.getBusyRanges(tenantId, List.of(MONDAY)).get(MONDAY))
+                .containsExactly(new TimeRangeDTO(LocalTime.of(11, 0), LocalTime.of(11, 30)));
+
+        index.onReservationChanged(new ReservationChangedEvent(
+                tenantId, reservationId, MONDAY, LocalTime.of(11, 0), LocalTime.of(11, 30), Status.CANCELLED
+        ));
+        assertThat(index.getBusyRanges(tenantId, List.of(MONDAY)).get(MONDAY)).isEmpty();
+
+        verify(reservationRepository, times(1)).findBusyRanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void getBusyRanges_doesNotCacheSnapshotLoadedDuringChange() {
+        var reservationId = UUID.randomUUID();
+        when(reservationRepository.findBusyRanges(eq(tenantId), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    index.onReservationChanged(new ReservationChangedEvent(
+                            tenantId, reservationId, MONDAY, LocalTime.of(11, 0), LocalTime.of(11, 30), Status.PENDING
+                    ));
+                    return List.of();
+                })
+                .thenReturn(List.of(new ReservationRangeDTO(reservationId, MONDAY, LocalTime.of(11, 0), LocalTime.of(11, 30))));
+
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+        var busy = index.getBusyRanges(tenantId, List.of(MONDAY));
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+
+        assertThat(busy.get(MONDAY)).containsExactly(new TimeRangeDTO(LocalTime.of(11, 0), LocalTime.of(11, 30)));
+        verify(reservationRepository, times(2)).findBusyRanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void getBusyRanges_keepsAtMostMaxDaysPerTenant() {
+        index = index(Duration.ofMinutes(30), 7);
+        when(reservationRepository.findBusyRanges(eq(tenantId), any(), any(), any())).thenReturn(List.of());
+        var dates = MONDAY.datesUntil(MONDAY.plusDays(30)).toList();
+
+        assertThat(index.getBusyRanges(tenantId, dates)).hasSize(30);
+        index.getBusyRanges(tenantId, dates);
+
+        verify(reservationRepository, times(2)).findBusyRanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void getBusyRanges_dropsIdleTenants() {
+        index = index(Duration.ZERO, 400);
+        when(reservationRepository.findBusyRanges(eq(tenantId), any(), any(), any())).thenReturn(List.of());
+
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+        index.getBusyRanges(tenantId, List.of(MONDAY));
+
+        verify(reservationRepository, times(2)).findBusyRanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void getPeriods_readsCurrentScheduleOfRequestedDaysOfWeek() {
+        var tuesday = MONDAY.plusDays(1);
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(eq(tenantId), any()))
+                .thenReturn(List.of(schedule(LocalTime.of(9, 0), LocalTime.of(12, 0))))
+                .thenReturn(List.of(schedule(LocalTime.of(13, 0), LocalTime.of(18, 0))));
+
+        var first = index.getPeriods(tenantId, List.of(MONDAY, MONDAY.plusWeeks(1)));
+        var second = index.getPeriods(tenantId, List.of(MONDAY, tuesday));
+
+        assertThat(first).containsOnlyKeys(MONDAY, MONDAY.plusWeeks(1));
+        assertThat(second).containsOnlyKeys(MONDAY);
+        assertThat(second.get(MONDAY)).containsExactly(new TimeRangeDTO(LocalTime.of(13, 0), LocalTime.of(18, 0)));
+        verify(scheduleRepository).findWithTimesByTenantIdAndDayOfWeekIn(tenantId, EnumSet.of(DayOfWeek.MONDAY));
+        verify(scheduleRepository).findWithTimesByTenantIdAndDayOfWeekIn(tenantId, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+        verifyNoMoreInteractions(scheduleRepository);
+    }
+
+    private AvailabilityIndex index(Duration tenantIdle, long maxDaysPerTenant) {
+        return new AvailabilityIndex(scheduleRepository, reservationRepository, Duration.ofMinutes(5), 100, tenantIdle, maxDaysPerTenant);
+    }
+
+    private ReservationRangeDTO range(LocalTime start, LocalTime end) {
+        return new ReservationRangeDTO(UUID.randomUUID(), MONDAY, start, end);
+    }
+
+    private Schedule schedule(LocalTime open, LocalTime close) {
+        var schedule = new Schedule();
+        schedule.setDayOfWeek(DayOfWeek.MONDAY);
+        schedule.setScheduleTime(Set.of(new ScheduleTime(open, close)));
+        return schedule;
+    }
+}
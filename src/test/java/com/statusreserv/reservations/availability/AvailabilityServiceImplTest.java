@@ -1,7 +1,11 @@
 package com.statusreserv.reservations.availability;
 
 import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.dto.availability.DaySlotsDTO;
+import com.statusreserv.reservations.dto.availability.NextAvailabilityRequestDTO;
 import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.dto.availability.TimeSlotDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
 import com.statusreserv.reservations.dto.service.ServiceProvidedDTO;
 import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
 import com.statusreserv.reservations.model.reservation.Reservation;
@@ -9,24 +13,32 @@ import com.statusreserv.reservations.model.schedule.Schedule;
 import com.statusreserv.reservations.model.schedule.ScheduleTime;
 import com.statusreserv.reservations.repository.service.ServiceProvided;
 import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
 import com.statusreserv.reservations.service.availability.AvailabilityServiceImpl;
-import com.statusreserv.reservations.service.schedule.ScheduleService;
+import com.statusreserv.reservations.service.availability.AvailabilityVersion;
 import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class AvailabilityServiceImplTest {
@@ -38,16 +50,21 @@ class AvailabilityServiceImplTest {
     @Mock
     private CurrentUserService currentUserService;
     @Mock
-    private ScheduleService scheduleService;
+    private ScheduleRepository scheduleRepository;
     @Mock
     private ServiceProvidedMapper serviceProvidedMapper;
 
-    @InjectMocks
     private AvailabilityServiceImpl availabilityService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        var availabilityIndex = new AvailabilityIndex(scheduleRepository, reservationRepository, Duration.ofMinutes(5), 100, Duration.ofMinutes(30), 400);
+        meterRegistry = new SimpleMeterRegistry();
+        availabilityService = new AvailabilityServiceImpl(
+                serviceProvidedService, currentUserService, availabilityIndex, new AvailabilityVersion(Duration.ofMinutes(5), 100, Duration.ofMinutes(30)), serviceProvidedMapper, meterRegistry, 4
+        );
     }
 
     @Test
@@ -68,12 +85,10 @@ class AvailabilityServiceImplTest {
         var schedule = new Schedule();
         schedule.setDayOfWeek(DayOfWeek.MONDAY);
         schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(10, 0))));
-        var list = new HashSet<Schedule>();
-        list.add(schedule);
-        when(scheduleService.getAll()).thenReturn(list);
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(any(), any())).thenReturn(List.of(schedule));
 
         when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
-        when(reservationRepository.findByDateBetweenAndStatusInAndTenantId(any(), any(), any(), any()))
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
                 .thenReturn(Collections.emptyList());
 
         var result = availabilityService.findAvailability(request);
@@ -91,10 +106,8 @@ class AvailabilityServiceImplTest {
         schedule.setDayOfWeek(DayOfWeek.MONDAY);
         schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(17, 0))));
 
-        var list = new HashSet<Schedule>();
-        list.add(schedule);
-
-        when(scheduleService.getAll()).thenReturn(list);
+        when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(any(), any())).thenReturn(List.of(schedule));
 
         var result = availabilityService.getPeriods(List.of(monday));
 
@@ -113,7 +126,7 @@ class AvailabilityServiceImplTest {
         var periods = Map.of(date, List.of(timeRange));
 
         when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
-        when(reservationRepository.findByDateBetweenAndStatusInAndTenantId(any(), any(), any(), any()))
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
                 .thenReturn(Collections.emptyList());
 
         var slots = availabilityService.getAvailableTimeSlots(periods, 30);
@@ -134,8 +147,8 @@ class AvailabilityServiceImplTest {
         reservation.setEndTime(LocalTime.of(9, 30));
 
         when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
-        when(reservationRepository.findByDateBetweenAndStatusInAndTenantId(any(), any(), any(), any()))
-                .thenReturn(List.of(reservation));
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
+                .thenReturn(ranges(List.of(reservation)));
 
         var slots = availabilityService.getAvailableTimeSlots(periods, 30);
 
@@ -148,4 +161,163 @@ class AvailabilityServiceImplTest {
         var result = availabilityService.getAvailableTimeSlots(Collections.emptyMap(), 30);
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void testGetAvailableTimeSlots_parallelMatchesSequentialOrder() {
+        var from = LocalDate.of(2025, 11, 10);
+        var periods = new HashMap<LocalDate, List<TimeRangeDTO>>();
+        var reservations = new ArrayList<Reservation>();
+        for (var i = 0; i < 120; i++) {
+            var date = from.plusDays(i);
+            periods.put(date, List.of(new TimeRangeDTO(LocalTime.of(9, 0), LocalTime.of(12, 0))));
+
+            var reservation = new Reservation();
+            reservation.setId(UUID.randomUUID());
+            reservation.setDate(date);
+            reservation.setStartTime(LocalTime.of(9, 0).plusMinutes(15L * (i % 8)));
+            reservation.setEndTime(reservation.getStartTime().plusMinutes(45));
+            reservations.add(reservation);
+        }
+
+        when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
+                .thenReturn(ranges(reservations));
+
+        ReflectionTestUtils.setField(availabilityService, "parallelThresholdDays", Integer.MAX_VALUE);
+        var sequential = List.copyOf(availabilityService.getAvailableTimeSlots(periods, 30));
+        ReflectionTestUtils.setField(availabilityService, "parallelThresholdDays", 1);
+        var parallel = List.copyOf(availabilityService.getAvailableTimeSlots(periods, 30));
+
+        assertThat(parallel).isNotEmpty().containsExactlyElementsOf(sequential);
+        assertThat(parallel.getFirst().date()).isEqualTo(from);
+        assertThat(parallel.getLast().date()).isEqualTo(from.plusDays(119));
+    }
+
+    @Test
+    void testFindNextAvailability_stopsAtFirstWindowWithEnoughSlots() {
+        var monday = LocalDate.of(2025, 11, 10);
+        var serviceId = UUID.randomUUID();
+        var service = new ServiceProvided();
+        service.setId(serviceId);
+        service.setDurationMinutes(60);
+        when(serviceProvidedService.findByIdIn(Set.of(serviceId))).thenReturn(List.of(service));
+
+        var schedule = new Schedule();
+        schedule.setDayOfWeek(DayOfWeek.TUESDAY);
+        schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(11, 0))));
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(any(), any())).thenReturn(List.of(schedule));
+
+        var reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setDate(monday.plusDays(1));
+        reservation.setStartTime(LocalTime.of(9, 0));
+        reservation.setEndTime(LocalTime.of(10, 0));
+        when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
+                .thenReturn(ranges(List.of(reservation)));
+
+        var result = availabilityService.findNextAvailability(
+                new NextAvailabilityRequestDTO(monday, Set.of(serviceId), 2, 365)
+        );
+
+        assertThat(result.timeSlots()).extracting(TimeSlotDTO::date)
+                .containsExactly(monday.plusDays(1), monday.plusDays(8));
+        assertThat(result.timeSlots()).extracting(slot -> slot.timeRange().start())
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(9, 0));
+        verify(reservationRepository).findBusyRanges(any(), eq(monday.plusDays(1)), eq(monday.plusDays(1)), any());
+        verify(reservationRepository).findBusyRanges(any(), eq(monday.plusDays(8)), eq(monday.plusDays(8)), any());
+        verifyNoMoreInteractions(reservationRepository);
+    }
+
+    @Test
+    void testStreamAvailability_emitsSameSlotsAsSearchLoadingOneWindowAtATime() {
+        var from = LocalDate.of(2025, 11, 10);
+        var to = from.plusDays(59);
+        var serviceId = UUID.randomUUID();
+        var service = new ServiceProvided();
+        service.setId(serviceId);
+        service.setDurationMinutes(30);
+        when(serviceProvidedService.findByIdIn(Set.of(serviceId))).thenReturn(List.of(service));
+
+        var schedules = new ArrayList<Schedule>();
+        for (var day : DayOfWeek.values()) {
+            var schedule = new Schedule();
+            schedule.setDayOfWeek(day);
+            schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(11, 0))));
+            schedules.add(schedule);
+        }
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(any(), any())).thenReturn(schedules);
+        when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        var streamed = new ArrayList<TimeSlotDTO>();
+        availabilityService.streamAvailability(new AvailabilityRequestDTO(from, to, Set.of(serviceId)), streamed::add);
+
+        assertThat(streamed).hasSize(60 * 4);
+        assertThat(streamed.getFirst()).isEqualTo(new TimeSlotDTO(from, new TimeRangeDTO(LocalTime.of(9, 0), LocalTime.of(9, 30))));
+        assertThat(streamed.getLast()).isEqualTo(new TimeSlotDTO(to, new TimeRangeDTO(LocalTime.of(10, 30), LocalTime.of(11, 0))));
+        verify(reservationRepository).findBusyRanges(any(), eq(from), eq(from.plusDays(30)), any());
+        verify(reservationRepository).findBusyRanges(any(), eq(from.plusDays(31)), eq(from.plusDays(59)), any());
+
+        var collected = availabilityService.findAvailability(new AvailabilityRequestDTO(from, to, Set.of(serviceId)));
+        assertThat(streamed).containsExactlyElementsOf(collected.timeSlots());
+    }
+
+    @Test
+    void testFindCompactAvailability_groupsSlotStartsByDate() {
+        var monday = LocalDate.of(2025, 11, 10);
+        var serviceId = UUID.randomUUID();
+        var service = new ServiceProvided();
+        service.setId(serviceId);
+        service.setDurationMinutes(30);
+        when(serviceProvidedService.findByIdIn(Set.of(serviceId))).thenReturn(List.of(service));
+
+        var schedule = new Schedule();
+        schedule.setDayOfWeek(DayOfWeek.MONDAY);
+        schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(10, 30))));
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(any(), any())).thenReturn(List.of(schedule));
+
+        var reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setDate(monday);
+        reservation.setStartTime(LocalTime.of(9, 30));
+        reservation.setEndTime(LocalTime.of(10, 0));
+        when(currentUserService.getCurrentTenantId()).thenReturn(UUID.randomUUID());
+        when(reservationRepository.findBusyRanges(any(), any(), any(), any()))
+                .thenReturn(ranges(List.of(reservation)));
+
+        var result = availabilityService.findCompactAvailability(
+                new AvailabilityRequestDTO(monday, monday.plusDays(7), Set.of(serviceId))
+        );
+
+        assertThat(result.durationMinutes()).isEqualTo(30);
+        assertThat(result.days()).extracting(DaySlotsDTO::date).containsExactly(monday, monday.plusDays(7));
+        assertThat(result.days().get(0).starts()).containsExactly(540, 600);
+        assertThat(result.days().get(1).starts()).containsExactly(540, 570, 600);
+
+        var reservationsPerDay = meterRegistry.get("availability.reservations.per.day").summary();
+        assertThat(reservationsPerDay.count()).isEqualTo(2);
+        assertThat(reservationsPerDay.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("availability.search").tag("range", "8-31").tag("slots", "1-10").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("availability.slots").summary().totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    void testFindCompactAvailability_rejectsMissingOrReversedRange() {
+        var monday = LocalDate.of(2025, 11, 10);
+
+        assertThatThrownBy(() -> availabilityService.findCompactAvailability(new AvailabilityRequestDTO(null, monday, Set.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.findCompactAvailability(new AvailabilityRequestDTO(monday, null, Set.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.findCompactAvailability(new AvailabilityRequestDTO(monday, monday.minusDays(1), Set.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<ReservationRangeDTO> ranges(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(r -> new ReservationRangeDTO(r.getId(), r.getDate(), r.getStartTime(), r.getEndTime()))
+                .toList();
+    }
 }
@@ -0,0 +1,92 @@
+package com.statusreserv.reservations.availability;
+
+import com.statusreserv.reservations.dto.availability.AvailabilityRequestDTO;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.service.availability.AvailabilityVersion;
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
+import com.statusreserv.reservations.service.service.ServiceProvidedChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityVersionTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 11, 10);
+
+    private AvailabilityVersion version;
+    private UUID tenantId;
+    private AvailabilityRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        version = version(100);
+        tenantId = UUID.randomUUID();
+        request = new AvailabilityRequestDTO(FROM, FROM.plusDays(30), Set.of(UUID.randomUUID()));
+    }
+
+    @Test
+    void etag_isStableUntilTenantDataChanges() {
+        var etag = version.etag(tenantId, request, "json");
+
+        assertThat(version.etag(tenantId, request, "json")).isEqualTo(etag).startsWith("\"").endsWith("\"");
+        version.onScheduleChanged(new ScheduleChangedEvent(UUID.randomUUID()));
+        assertThat(version.etag(tenantId, request, "json")).isEqualTo(etag);
+
+        version.onReservationChanged(new ReservationChangedEvent(
+                tenantId, UUID.randomUUID(), FROM, LocalTime.of(9, 0), LocalTime.of(10, 0), Status.PENDING
+        ));
+        var afterReservation = version.etag(tenantId, request, "json");
+        assertThat(afterReservation).isNotEqualTo(etag);
+
+        version.onServiceProvidedChanged(new ServiceProvidedChangedEvent(tenantId));
+        assertThat(version.etag(tenantId, request, "json")).isNotEqualTo(afterReservation);
+    }
+
+    @Test
+    void etag_dependsOnParametersButNotServiceOrder() {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var ordered = new LinkedHashSet<>(List.of(first, second));
+        var reversed = new LinkedHashSet<>(List.of(second, first));
+
+        assertThat(version.etag(tenantId, new AvailabilityRequestDTO(FROM, FROM, ordered), "json"))
+                .isEqualTo(version.etag(tenantId, new AvailabilityRequestDTO(FROM, FROM, reversed), "json"));
+        assertThat(version.etag(tenantId, request, "json"))
+                .isNotEqualTo(version.etag(tenantId, new AvailabilityRequestDTO(FROM, FROM.plusDays(31), request.services()), "json"))
+                .isNotEqualTo(version.etag(UUID.randomUUID(), request, "json"));
+    }
+
+    @Test
+    void etag_dependsOnVariant() {
+        assertThat(version.etag(tenantId, request, "compact-json"))
+                .isNotEqualTo(version.etag(tenantId, request, "compact-cbor"))
+                .isNotEqualTo(version.etag(tenantId, request, "json"));
+    }
+
+    @Test
+    void etag_differsBetweenInstances() {
+        assertThat(version(100).etag(tenantId, request, "json")).isNotEqualTo(version.etag(tenantId, request, "json"));
+    }
+
+    @Test
+    void etag_changesWhenEvictedTenantComesBack() {
+        var bounded = new AvailabilityVersion(Duration.ofMinutes(5), 100, Duration.ZERO);
+        var etag = bounded.etag(tenantId, request, "json");
+
+        assertThat(bounded.etag(tenantId, request, "json")).isNotEqualTo(etag);
+    }
+
+    private AvailabilityVersion version(long maxTenants) {
+        return new AvailabilityVersion(Duration.ofMinutes(5), maxTenants, Duration.ofMinutes(30));
+    }
+}
@@ -0,0 +1,108 @@
+package com.statusreserv.reservations.availability;
+
+import com.statusreserv.reservations.service.availability.DayOccupancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayOccupancyTest {
+
+    private DayOccupancy occupancy;
+
+    @BeforeEach
+    void setUp() {
+        occupancy = new DayOccupancy();
+    }
+
+    @Test
+    void markSlots_withoutReservations_fillsWholeWindow() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(11, 0));
+        occupancy.markSlots(LocalTime.of(9, 0), LocalTime.of(11, 0), 30);
+
+        assertThat(slots()).containsExactly(540, 570, 600, 630);
+    }
+
+    @Test
+    void markSlots_skipsSlotsOverlappingReservations() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(11, 0));
+        occupancy.occupy(LocalTime.of(9, 15), LocalTime.of(9, 45));
+        occupancy.markSlots(LocalTime.of(9, 0), LocalTime.of(11, 0), 30);
+
+        assertThat(slots()).containsExactly(600, 630);
+    }
+
+    @Test
+    void markSlots_reservationTouchingSlotDoesNotBlockIt() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupancy.occupy(LocalTime.of(8, 0), LocalTime.of(9, 0));
+        occupancy.occupy(LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancy.markSlots(LocalTime.of(9, 0), LocalTime.of(10, 0), 60);
+
+        assertThat(slots()).containsExactly(540);
+    }
+
+    @Test
+    void forEachSlot_returnsStartsInAscendingOrderAcrossWindows() {
+        occupancy.open(LocalTime.of(14, 0), LocalTime.of(15, 0));
+        occupancy.open(LocalTime.of(0, 0), LocalTime.of(1, 0));
+        occupancy.markSlots(LocalTime.of(14, 0), LocalTime.of(15, 0), 60);
+        occupancy.markSlots(LocalTime.of(0, 0), LocalTime.of(1, 0), 60);
+
+        assertThat(slots()).containsExactly(0, 840);
+    }
+
+    @Test
+    void isFree_spansWordBoundaries() {
+        occupancy.open(0, DayOccupancy.MINUTES_PER_DAY);
+        occupancy.occupy(128, 129);
+
+        assertThat(occupancy.isFree(0, 128)).isTrue();
+        assertThat(occupancy.isFree(60, 130)).isFalse();
+        assertThat(occupancy.isFree(129, DayOccupancy.MINUTES_PER_DAY)).isTrue();
+        assertThat(occupancy.isFree(10, 10)).isFalse();
+    }
+
+    @Test
+    void markSlots_withCapacity_blocksOnlyMinutesAtFullCapacity() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(10, 0), 2);
+        occupancy.occupy(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupancy.occupy(LocalTime.of(9, 15), LocalTime.of(9, 45));
+        occupancy.markSlots(LocalTime.of(9, 0), LocalTime.of(10, 0), 15);
+
+        assertThat(slots()).containsExactly(540, 585);
+    }
+
+    @Test
+    void clear_resetsCapacity() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(10, 0), 3);
+        occupancy.occupy(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupancy.clear();
+
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupancy.occupy(LocalTime.of(9, 0), LocalTime.of(9, 30));
+
+        assertThat(occupancy.isFree(540, 570)).isFalse();
+        assertThat(occupancy.isFree(570, 600)).isTrue();
+    }
+
+    @Test
+    void clear_resetsPreviousDay() {
+        occupancy.open(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupancy.markSlots(LocalTime.of(9, 0), LocalTime.of(10, 0), 30);
+        occupancy.clear();
+
+        assertThat(slots()).isEmpty();
+        assertThat(occupancy.isFree(540, 570)).isFalse();
+    }
+
+    private List<Integer> slots() {
+        var starts = new ArrayList<Integer>();
+        occupancy.forEachSlot(starts::add);
+        return starts;
+    }
+}
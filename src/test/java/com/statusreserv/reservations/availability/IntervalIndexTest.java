@@ -0,0 +1,56 @@
+package com.statusreserv.reservations.availability;
+
+import com.statusreserv.reservations.dto.availability.TimeRangeDTO;
+import com.statusreserv.reservations.service.availability.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalIndexTest {
+
+    @Test
+    void covers_rejectsGapsBetweenWindows() {
+        var index = IntervalIndex.of(List.of(range(11, 0, 12, 0), range(9, 0, 10, 0)));
+
+        assertThat(index.covers(LocalTime.of(9, 0), LocalTime.of(10, 0))).isTrue();
+        assertThat(index.covers(LocalTime.of(9, 30), LocalTime.of(11, 30))).isFalse();
+        assertThat(index.covers(LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        assertThat(IntervalIndex.of(List.of()).covers(LocalTime.of(9, 0), LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    void covers_findsLongRangeHiddenBehindLaterStarts() {
+        var index = IntervalIndex.of(List.of(range(8, 0, 18, 0), range(9, 0, 9, 30), range(12, 0, 12, 30)));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.covers(LocalTime.of(15, 0), LocalTime.of(15, 30))).isTrue();
+    }
+
+    @Test
+    void covers_mergesAdjacentWindows() {
+        var index = IntervalIndex.of(List.of(range(10, 0, 12, 0), range(9, 0, 10, 0), range(14, 0, 18, 0)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.covers(LocalTime.of(9, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(index.covers(LocalTime.of(11, 30), LocalTime.of(14, 30))).isFalse();
+        assertThat(index.covers(LocalTime.of(14, 0), LocalTime.of(18, 0))).isTrue();
+        assertThat(index.covers(LocalTime.of(17, 30), LocalTime.of(18, 1))).isFalse();
+        assertThat(index.covers(LocalTime.of(8, 59), LocalTime.of(9, 30))).isFalse();
+    }
+
+    @Test
+    void rangesEndingAtMidnight_runToEndOfDay() {
+        var index = IntervalIndex.of(List.of(range(22, 0, 0, 0)));
+
+        assertThat(index.covers(LocalTime.of(23, 0), LocalTime.MIDNIGHT)).isTrue();
+        assertThat(index.covers(LocalTime.of(23, 30), LocalTime.of(23, 45))).isTrue();
+        assertThat(index.covers(LocalTime.of(21, 30), LocalTime.of(23, 0))).isFalse();
+    }
+
+    private TimeRangeDTO range(int startHour, int startMinute, int endHour, int endMinute) {
+        return new TimeRangeDTO(LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+}
@@ -0,0 +1,38 @@
+package com.statusreserv.reservations.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@code application.yml} runs application tasks on virtual threads by default and
+ * that {@code VIRTUAL_THREADS_ENABLED=false} switches back to platform threads.
+ */
+class VirtualThreadsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class));
+
+    @Test
+    void tasksRunOnVirtualThreadsByDefault() {
+        contextRunner.run(context -> assertThat(runsOnVirtualThread(context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class)))
+                .isTrue());
+    }
+
+    @Test
+    void virtualThreadsCanBeDisabled() {
+        contextRunner.withPropertyValues("VIRTUAL_THREADS_ENABLED=false")
+                .run(context -> assertThat(runsOnVirtualThread(context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class)))
+                        .isFalse());
+    }
+
+    private static boolean runsOnVirtualThread(AsyncTaskExecutor executor) throws Exception {
+        return executor.submit(() -> Thread.currentThread().isVirtual()).get();
+    }
+}
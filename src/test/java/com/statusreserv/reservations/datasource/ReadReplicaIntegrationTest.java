@@ -0,0 +1,143 @@
+package com.statusreserv.reservations.datasource;
+
+import com.statusreserv.reservations.config.datasource.ReplicaDataSourceConfig;
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.model.user.UserRole;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the routing data source against two PostgreSQL instances, a primary and a replica
+ * with the same schema but no replication between them.
+ *
+ * <p>Rows written to the primary never reach the replica, which simulates a replica that
+ * lags behind. Each statement reports the port of the server that ran it, which tells the
+ * two instances apart.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class ReadReplicaIntegrationTest {
+
+    private static EmbeddedPostgres primary;
+    private static EmbeddedPostgres replica;
+
+    @DynamicPropertySource
+    static void datasources(DynamicPropertyRegistry registry) throws IOException {
+        primary = EmbeddedPostgres.start();
+        replica = EmbeddedPostgres.start();
+        Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+
+        registry.add("spring.datasource.url", () -> primary.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.datasource.replica.url", () -> replica.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.replica.username", () -> "postgres");
+        registry.add("spring.datasource.replica.password", () -> "postgres");
+        registry.add("spring.datasource.replica.read-your-writes-window", () -> "PT1M");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        primary.close();
+        replica.close();
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransactionTemplate write;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        write = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        authenticate(UUID.randomUUID());
+
+        assertThat(readOnly.execute(status -> port())).isEqualTo(replica.getPort());
+        assertThat(write.execute(status -> port())).isEqualTo(primary.getPort());
+    }
+
+    @Test
+    void readsOfTenantStayOnPrimaryAfterItsWriteWhileReplicaLags() {
+        var tenantId = write.execute(status -> {
+            var tenant = entityManager.persist(new Tenant().withName("Tenant").withEnabled(true));
+            eventPublisher.publishEvent(new ScheduleChangedEvent(tenant.getId()));
+            return tenant.getId();
+        });
+
+        authenticate(tenantId);
+        assertThat(readOnly.execute(status -> port())).isEqualTo(primary.getPort());
+        assertThat(readOnly.execute(status -> tenantExists(tenantId))).isTrue();
+
+        authenticate(UUID.randomUUID());
+        assertThat(readOnly.execute(status -> port())).isEqualTo(replica.getPort());
+        assertThat(readOnly.execute(status -> tenantExists(tenantId))).isFalse();
+    }
+
+    private int port() {
+        var port = entityManager.getEntityManager()
+                .createNativeQuery("select current_setting('port')")
+                .getSingleResult();
+        return Integer.parseInt(port.toString());
+    }
+
+    private boolean tenantExists(UUID tenantId) {
+        var count = (Number) entityManager.getEntityManager()
+                .createNativeQuery("select count(*) from tbl_tenant where id = :id")
+                .setParameter("id", tenantId)
+                .getSingleResult();
+        return count.intValue() > 0;
+    }
+
+    private void authenticate(UUID tenantId) {
+        var user = new AuthenticatedUser(UUID.randomUUID(), "user@example.com", UserRole.USER, tenantId, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.statusreserv.reservations.datasource;
+
+import com.statusreserv.reservations.config.datasource.ReadReplicaRoutingDataSource;
+import com.statusreserv.reservations.config.datasource.ReadYourWrites;
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
+import com.statusreserv.reservations.model.user.UserRole;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReadYourWrites readYourWrites;
+    private ReadReplicaRoutingDataSource dataSource;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var primary = mock(DataSource.class);
+        var replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+        dataSource = new ReadReplicaRoutingDataSource(primary, replica, readYourWrites);
+
+        tenantId = UUID.randomUUID();
+        var user = new AuthenticatedUser(UUID.randomUUID(), "user@example.com", UserRole.USER, tenantId, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() throws Exception {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readsAfterTenantWriteUsePrimary() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readYourWrites.onScheduleChanged(new ScheduleChangedEvent(tenantId));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void writeOfAnotherTenantKeepsReadsOnReplica() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readYourWrites.onScheduleChanged(new ScheduleChangedEvent(UUID.randomUUID()));
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void windowExpires() {
+        var expired = new ReadYourWrites(Duration.ZERO);
+        expired.markWritten(tenantId);
+
+        assertThat(expired.isActive(tenantId)).isFalse();
+        assertThat(readYourWrites.isActive(null)).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+package com.statusreserv.reservations.migration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the migrations to an embedded PostgreSQL and checks that the tenant-scoped
+ * hot queries are served by the indexes they were created for.
+ *
+ * <p>Sequential scans are disabled so the assertions check that an index can serve the
+ * predicate, independently of table size.
+ */
+class MigrationIndexTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into tbl_tenant (id, name, enabled)
+                    select gen_random_uuid(), 'tenant ' || i, true from generate_series(1, 20) i
+                    """);
+            statement.execute("""
+                    insert into tbl_reservations (id, date, start_time, end_time, status, tenant_id)
+                    select gen_random_uuid(), date '2025-01-01' + (i % 365), time '09:00', time '10:00', 'CONFIRMED', t.id
+                    from tbl_tenant t, generate_series(1, 500) i
+                    """);
+            statement.execute("""
+                    insert into tbl_schedules (id, day_of_week, tenant_id)
+                    select gen_random_uuid(), 'MONDAY', t.id from tbl_tenant t
+                    """);
+            statement.execute("analyze");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void reservationRangeQueryUsesTenantDateStatusIndex() throws SQLException {
+        assertThat(explain("""
+                select * from tbl_reservations
+                where date between date '2025-03-01' and date '2025-03-31'
+                  and status in ('PENDING', 'CONFIRMED', 'COMPLETED')
+                  and tenant_id = (select id from tbl_tenant limit 1)
+                """)).contains("idx_reservations_tenant_date");
+    }
+
+    @Test
+    void reservationPageQueryUsesOrderedIndex() throws SQLException {
+        assertThat(explain("""
+                select * from tbl_reservations
+                where tenant_id = (select id from tbl_tenant limit 1)
+                  and date between date '0001-01-01' and date '9999-12-31'
+                order by date, start_time, id
+                limit 51
+                """)).contains("idx_reservations_tenant_date_start").doesNotContain("Sort");
+    }
+
+    @Test
+    void overlapProbeUsesTimeRangeGistIndex() throws SQLException {
+        assertThat(explain("""
+                select exists (
+                    select 1 from tbl_reservations r
+                    where r.tenant_id = (select id from tbl_tenant limit 1)
+                      and r.time_range && tsrange(timestamp '2025-03-03 09:30', timestamp '2025-03-03 10:30', '[)')
+                      and r.status in ('PENDING', 'CONFIRMED', 'COMPLETED')
+                      and r.id <> '00000000-0000-0000-0000-000000000000'
+                )
+                """)).contains("idx_reservations_tenant_time_range");
+    }
+
+    @Test
+    void timeRangeIsGeneratedFromDateAndTimes() throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement();
+             var result = statement.executeQuery("""
+                     select count(*) from tbl_reservations
+                     where time_range = tsrange(date + time '09:00', date + time '10:00', '[)')
+                     """)) {
+            result.next();
+            assertThat(result.getInt(1)).isEqualTo(20 * 500);
+        }
+    }
+
+    @Test
+    void scheduleQueryUsesTenantDayIndex() throws SQLException {
+        assertThat(explain("""
+                select * from tbl_schedules
+                where tenant_id = (select id from tbl_tenant limit 1)
+                  and day_of_week in ('MONDAY', 'TUESDAY')
+                """)).contains("idx_schedules_tenant_day");
+    }
+
+    @Test
+    void userLookupUsesUniqueEmailIndex() throws SQLException {
+        assertThat(explain("select * from tbl_user_auth where email = 'user@example.com'"))
+                .contains("uk_user_auth_email");
+    }
+
+    private static String explain(String query) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+            List<String> plan = new ArrayList<>();
+            try (var result = statement.executeQuery("explain " + query)) {
+                while (result.next()) plan.add(result.getString(1));
+            }
+            return String.join("\n", plan);
+        }
+    }
+}
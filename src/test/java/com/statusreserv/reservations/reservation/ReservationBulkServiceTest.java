@@ -0,0 +1,177 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+import com.statusreserv.reservations.mapper.ReservationMapperImpl;
+import com.statusreserv.reservations.mapper.ReservationServiceMapperImpl;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.repository.service.ServiceProvided;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.reservation.ReservationBulkServiceImpl;
+import com.statusreserv.reservations.service.reservation.ReservationChangedEvent;
+import com.statusreserv.reservations.service.reservation.ReservationLock;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReservationBulkServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+
+    private ReservationRepository repository;
+    private ReservationLock reservationLock;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private Schedule schedule;
+    private ReservationBulkServiceImpl service;
+    private Tenant tenant;
+    private UUID serviceId;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(ReservationRepository.class);
+        var scheduleRepository = mock(ScheduleRepository.class);
+        var serviceProvidedService = mock(ServiceProvidedService.class);
+        var currentUserService = mock(CurrentUserService.class);
+        reservationLock = mock(ReservationLock.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        entityManager = mock(EntityManager.class);
+
+        service = new ReservationBulkServiceImpl(
+                repository,
+                scheduleRepository,
+                new ReservationMapperImpl(),
+                new ReservationServiceMapperImpl(),
+                serviceProvidedService,
+                currentUserService,
+                reservationLock,
+                eventPublisher,
+                entityManager
+        );
+
+        tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+        when(currentUserService.getCurrentTenant()).thenReturn(tenant);
+
+        var serviceProvided = new ServiceProvided();
+        serviceProvided.setId(UUID.randomUUID());
+        serviceProvided.setName("Haircut");
+        serviceProvided.setPrice(BigDecimal.TEN);
+        serviceProvided.setDurationMinutes(60);
+        serviceId = serviceProvided.getId();
+        when(serviceProvidedService.findByIdIn(any())).thenReturn(List.of(serviceProvided));
+
+        schedule = new Schedule();
+        schedule.setDayOfWeek(DayOfWeek.MONDAY);
+        schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(17, 0))));
+        when(scheduleRepository.findWithTimesByTenantIdAndDayOfWeekIn(eq(tenant.getId()), any())).thenReturn(List.of(schedule));
+
+        var existing = new ReservationRangeDTO(UUID.randomUUID(), MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0));
+        when(repository.findBusyRanges(eq(tenant.getId()), eq(MONDAY), eq(MONDAY), anyCollection()))
+                .thenReturn(List.of(existing));
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            Collection<Reservation> reservations = invocation.getArgument(0);
+            reservations.forEach(reservation -> reservation.setId(UUID.randomUUID()));
+            return List.copyOf(reservations);
+        });
+    }
+
+    @Test
+    void shouldCreateValidReservationsAndReportInvalidOnes() {
+        var result = service.createAll(List.of(
+                write(LocalTime.of(9, 0), serviceId),
+                write(LocalTime.of(9, 30), serviceId),
+                write(LocalTime.of(12, 30), serviceId),
+                write(LocalTime.of(16, 30), serviceId),
+                write(LocalTime.of(14, 0), UUID.randomUUID()),
+                write(LocalTime.of(10, 0), serviceId)
+        ));
+
+        assertEquals(Set.of(0, 5), result.created().keySet());
+        assertEquals(Set.of(1, 2, 3, 4), result.rejected().keySet());
+        assertTrue(result.rejected().get(1).contains("overlaps"));
+        assertTrue(result.rejected().get(2).contains("overlaps"));
+        assertTrue(result.rejected().get(3).contains("outside working hours"));
+        assertEquals("No services found for the provided IDs", result.rejected().get(4));
+
+        verify(reservationLock).lockAll(eq(tenant.getId()), eq(Set.of(MONDAY)));
+        verify(repository, times(1)).saveAll(any());
+        verify(eventPublisher, times(2)).publishEvent(any(ReservationChangedEvent.class));
+    }
+
+    @Test
+    void shouldCreatePendingReservationsWithTotals() {
+        var result = service.createAll(List.of(write(LocalTime.of(14, 0), serviceId)));
+
+        assertEquals(1, result.created().size());
+        verify(repository).saveAll(argThat((Iterable<Reservation> reservations) -> {
+            var reservation = reservations.iterator().next();
+            return reservation.getStatus() == Status.PENDING
+                    && reservation.getEndTime().equals(LocalTime.of(15, 0))
+                    && reservation.getTotalPrice().compareTo(BigDecimal.TEN) == 0
+                    && reservation.getReservationServices().getFirst().getReservation() == reservation;
+        }));
+    }
+
+    @Test
+    void shouldInsertAcceptedReservationsInChunks() {
+        schedule.setCapacity(1000);
+        var writes = Collections.nCopies(501, write(LocalTime.of(9, 0), serviceId));
+
+        var result = service.createAll(writes);
+
+        assertEquals(501, result.created().size());
+        verify(repository).saveAll(argThat((Collection<Reservation> chunk) -> chunk.size() == 500));
+        verify(repository).saveAll(argThat((Collection<Reservation> chunk) -> chunk.size() == 1));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(501)).publishEvent(any(ReservationChangedEvent.class));
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        var writes = Collections.nCopies(ReservationBulkServiceImpl.MAX_BATCH_SIZE + 1, write(LocalTime.of(9, 0), serviceId));
+
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(writes));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldRejectBatchSpanningTooManyDates() {
+        var writes = IntStream.rangeClosed(0, ReservationBulkServiceImpl.MAX_DATES_PER_BATCH)
+                .mapToObj(i -> new ReservationWrite(MONDAY.plusWeeks(i), LocalTime.of(9, 0), Set.of(serviceId)))
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(writes));
+        verifyNoInteractions(reservationLock, repository);
+    }
+
+    private ReservationWrite write(LocalTime start, UUID service) {
+        return new ReservationWrite(MONDAY, start, Set.of(service));
+    }
+}
@@ -0,0 +1,206 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+import com.statusreserv.reservations.mapper.ReservationMapperImpl;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.service.ServiceProvided;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.reservation.ReservationLock;
+import com.statusreserv.reservations.service.reservation.ReservationService;
+import com.statusreserv.reservations.service.reservation.ReservationServiceImpl;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Books the same slot from many threads against PostgreSQL and checks that the per-day
+ * advisory lock lets exactly one booking through.
+ *
+ * <p>Each booking commits on its own, so the test runs without a surrounding transaction.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        ReservationServiceImpl.class,
+        ReservationValidator.class,
+        ReservationLock.class,
+        ReservationMapperImpl.class,
+        ReservationConcurrencyTest.Metrics.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class ReservationConcurrencyTest {
+
+    private static final int CLIENTS = 16;
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> CLIENTS + 1);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ReservationService service;
+
+    @Autowired
+    private ReservationRepository repository;
+
+    @Autowired
+    private ReservationLock reservationLock;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private CurrentUserService currentUserService;
+
+    @MockitoBean
+    private ServiceProvidedService serviceProvidedService;
+
+    private UUID tenantId;
+    private ReservationWrite write;
+
+    @BeforeEach
+    void setUp() {
+        var tenant = new TransactionTemplate(transactionManager).execute(status -> {
+            var created = entityManager.persist(new Tenant().withName("Tenant").withEnabled(true));
+
+            var schedule = new Schedule();
+            schedule.setTenant(created);
+            schedule.setDayOfWeek(DayOfWeek.MONDAY);
+            schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(18, 0))));
+            entityManager.persist(schedule);
+            return created;
+        });
+        var serviceProvided = new TransactionTemplate(transactionManager).execute(status -> entityManager.persist(
+                new ServiceProvided().withName("Haircut").withPrice(BigDecimal.TEN).withDurationMinutes(30).withTenant(tenant)));
+
+        tenantId = tenant.getId();
+        write = new ReservationWrite(MONDAY, TEN, Set.of(serviceProvided.getId()));
+        when(currentUserService.getCurrentTenant()).thenReturn(tenant);
+        when(currentUserService.getCurrentTenantId()).thenReturn(tenantId);
+        when(serviceProvidedService.findByIdIn(any())).thenReturn(List.of(serviceProvided));
+    }
+
+    @Test
+    void concurrentBookingsOfSameSlotLetExactlyOneThrough() throws Exception {
+        var start = new CountDownLatch(1);
+        List<Future<UUID>> results;
+        try (var executor = Executors.newFixedThreadPool(CLIENTS)) {
+            results = IntStream.range(0, CLIENTS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return service.create(write);
+                    }))
+                    .toList();
+            start.countDown();
+        }
+
+        var created = 0;
+        for (var result : results) {
+            try {
+                result.get();
+                created++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+
+        assertThat(created).isEqualTo(1);
+        assertThat(repository.findBusyRanges(tenantId, MONDAY, MONDAY, EnumSet.allOf(Status.class))).hasSize(1);
+    }
+
+    @Test
+    void lockAllHoldsOneAdvisoryLockPerDate() {
+        var dates = List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2), MONDAY);
+
+        var held = new TransactionTemplate(transactionManager).execute(status -> {
+            reservationLock.lockAll(tenantId, dates);
+            return ((Number) entityManager.getEntityManager().createNativeQuery("""
+                    select count(*) from pg_locks where locktype = 'advisory' and pid = pg_backend_pid()
+                    """).getSingleResult()).intValue();
+        });
+
+        assertThat(held).isEqualTo(3);
+    }
+
+    @Test
+    void reactivatingCancelledReservationIntoTakenSlotIsRejected() {
+        var cancelled = service.create(write);
+        service.updateStatus(cancelled, Status.CANCELLED);
+        service.create(write);
+
+        assertThatThrownBy(() -> service.updateStatus(cancelled, Status.CONFIRMED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.findById(cancelled)).get()
+                .satisfies(reservation -> assertThat(reservation.getStatus()).isEqualTo(Status.CANCELLED));
+    }
+}
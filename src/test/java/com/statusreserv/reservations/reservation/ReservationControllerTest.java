@@ -0,0 +1,83 @@
+package com.statusreserv.reservations.reservation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.statusreserv.reservations.controller.ReservationController;
+import com.statusreserv.reservations.dto.reservation.ReservationBulkResultDTO;
+import com.statusreserv.reservations.service.reservation.ReservationBulkService;
+import com.statusreserv.reservations.service.reservation.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that bulk requests are validated element by element and that rejected batches are
+ * answered with 400 Bad Request. The controller is proxied with method validation, as
+ * {@code @Validated} makes Spring do in the application.
+ */
+class ReservationControllerTest {
+
+    private ReservationBulkService reservationBulkService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        reservationBulkService = mock(ReservationBulkService.class);
+
+        var validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        var proxy = new ProxyFactory(new ReservationController(mock(ReservationService.class), reservationBulkService, new ObjectMapper()));
+        proxy.setProxyTargetClass(true);
+        proxy.addAdvice(new MethodValidationInterceptor(validator));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(proxy.getProxy()).setValidator(validator).build();
+    }
+
+    @Test
+    void bulkWithInvalidElementIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/reservations/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"date": "2025-11-10", "startTime": "09:00", "serviceProvidedIds": ["%s"]},
+                                 {"startTime": "10:00", "serviceProvidedIds": []}]
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reservationBulkService);
+    }
+
+    @Test
+    void oversizedBulkIsBadRequest() throws Exception {
+        when(reservationBulkService.createAll(any()))
+                .thenThrow(new IllegalArgumentException("At most 5000 reservations can be created at once"));
+
+        mockMvc.perform(post("/api/reservations/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void validBulkIsCreated() throws Exception {
+        when(reservationBulkService.createAll(any())).thenReturn(new ReservationBulkResultDTO(Map.of(), Map.of()));
+
+        mockMvc.perform(post("/api/reservations/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk());
+    }
+}
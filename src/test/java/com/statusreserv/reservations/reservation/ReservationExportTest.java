@@ -0,0 +1,142 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationFilter;
+import com.statusreserv.reservations.mapper.ReservationMapperImpl;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.reservation.ReservationLock;
+import com.statusreserv.reservations.service.reservation.ReservationService;
+import com.statusreserv.reservations.service.reservation.ReservationServiceImpl;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that exporting reservations through the service loads services once per chunk of
+ * rows rather than once per reservation.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Import({
+        ReservationServiceImpl.class,
+        ReservationValidator.class,
+        ReservationLock.class,
+        ReservationMapperImpl.class,
+        ReservationExportTest.Metrics.class
+})
+class ReservationExportTest {
+
+    private static final int RESERVATIONS = 250;
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 10);
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ReservationService service;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private CurrentUserService currentUserService;
+
+    @MockitoBean
+    private ServiceProvidedService serviceProvidedService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        var tenant = entityManager.persist(new Tenant().withName("Tenant"));
+        when(currentUserService.getCurrentTenantId()).thenReturn(tenant.getId());
+
+        for (var i = 0; i < RESERVATIONS; i++) {
+            var reservation = new Reservation();
+            reservation.setTenant(tenant);
+            reservation.setDate(DATE.plusDays(i / 10));
+            reservation.setStartTime(LocalTime.of(8 + i % 10, 0));
+            reservation.setEndTime(LocalTime.of(9 + i % 10, 0));
+            reservation.setStatus(Status.CONFIRMED);
+
+            var services = new ArrayList<ReservationServiceProvided>();
+            for (var s = 0; s < 2; s++) {
+                services.add(new ReservationServiceProvided()
+                        .withName("Service " + s)
+                        .withPrice(BigDecimal.TEN)
+                        .withDurationMinutes(30)
+                        .withReservation(reservation)
+                        .withTenant(tenant));
+            }
+            reservation.setReservationServices(services);
+            entityManager.persist(reservation);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void exportFetchesServicesPerChunk() {
+        List<ReservationDTO> exported = new ArrayList<>();
+
+        service.export(null, exported::add);
+
+        assertThat(exported).hasSize(RESERVATIONS).allSatisfy(dto -> assertThat(dto.reservationServices()).hasSize(2));
+        assertThat(exported.getFirst().date()).isEqualTo(DATE);
+        // one cursor over the reservations plus one services query per chunk of 100
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + 3);
+    }
+
+    @Test
+    void exportAppliesFilter() {
+        List<ReservationDTO> exported = new ArrayList<>();
+
+        service.export(new ReservationFilter(DATE, DATE, Set.of(Status.CONFIRMED)), exported::add);
+
+        assertThat(exported).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.mapper.ReservationMapper;
+import com.statusreserv.reservations.mapper.ReservationMapperImpl;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that mapping reservations to DTOs does not issue one query per reservation.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Import(ReservationMapperImpl.class)
+class ReservationRepositoryTest {
+
+    private static final int RESERVATIONS = 30;
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 10);
+
+    @Autowired
+    private ReservationRepository repository;
+
+    @Autowired
+    private ReservationMapper mapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        var tenant = entityManager.persist(new Tenant().withName("Tenant"));
+        tenantId = tenant.getId();
+
+        for (var i = 0; i < RESERVATIONS; i++) {
+            var reservation = new Reservation();
+            reservation.setTenant(tenant);
+            reservation.setDate(DATE.plusDays(i / 10));
+            reservation.setStartTime(LocalTime.of(8 + i % 10, 0));
+            reservation.setEndTime(LocalTime.of(9 + i % 10, 0));
+            reservation.setStatus(Status.CONFIRMED);
+
+            var services = new ArrayList<ReservationServiceProvided>();
+            for (var s = 0; s < 2; s++) {
+                services.add(new ReservationServiceProvided()
+                        .withName("Service " + s)
+                        .withPrice(BigDecimal.TEN)
+                        .withDurationMinutes(30)
+                        .withServiceProvidedId(UUID.randomUUID())
+                        .withReservation(reservation)
+                        .withTenant(tenant));
+            }
+            reservation.setReservationServices(services);
+            entityManager.persist(reservation);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageIsMappedWithTwoStatements() {
+        var page = repository.findPage(tenantId, DATE, DATE.plusDays(7), EnumSet.allOf(Status.class), Limit.of(20));
+        repository.fetchServices(page);
+        var dtos = page.stream().map(mapper::toDTO).toList();
+
+        assertThat(dtos).hasSize(20).allSatisfy(dto -> assertThat(dto.reservationServices()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void exportLoadsServicesInBatches() {
+        List<Integer> sizes = new ArrayList<>();
+        try (var reservations = repository.streamAll(tenantId, DATE, DATE.plusDays(7), EnumSet.allOf(Status.class))) {
+            reservations.map(mapper::toDTO).forEach(dto -> sizes.add(dto.reservationServices().size()));
+        }
+
+        assertThat(sizes).hasSize(RESERVATIONS).containsOnly(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void findByIdFetchesServicesWithReservation() {
+        var id = repository.findPage(tenantId, DATE, DATE, EnumSet.allOf(Status.class), Limit.of(1)).getFirst().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        var dto = mapper.toDTO(repository.findByIdAndTenantId(id, tenantId).orElseThrow());
+
+        assertThat(dto.reservationServices()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
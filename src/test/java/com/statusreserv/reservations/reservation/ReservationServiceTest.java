@@ -0,0 +1,175 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationDTO;
+import com.statusreserv.reservations.dto.reservation.ReservationFilter;
+import com.statusreserv.reservations.dto.reservation.ReservationWrite;
+import com.statusreserv.reservations.mapper.ReservationMapper;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.Status;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.reservation.ReservationCursor;
+import com.statusreserv.reservations.service.reservation.ReservationLock;
+import com.statusreserv.reservations.service.reservation.ReservationService;
+import com.statusreserv.reservations.service.reservation.ReservationServiceImpl;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import com.statusreserv.reservations.service.service.ServiceProvidedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReservationServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 10);
+
+    private ReservationRepository repository;
+    private ReservationMapper mapper;
+    private ReservationValidator validator;
+    private ReservationLock reservationLock;
+    private ReservationService service;
+    private SimpleMeterRegistry meterRegistry;
+    private UUID tenantId;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(ReservationRepository.class);
+        mapper = mock(ReservationMapper.class);
+        var currentUserService = mock(CurrentUserService.class);
+        validator = mock(ReservationValidator.class);
+        reservationLock = mock(ReservationLock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ReservationServiceImpl(
+                repository,
+                mapper,
+                currentUserService,
+                validator,
+                reservationLock,
+                mock(ServiceProvidedService.class),
+                mock(ApplicationEventPublisher.class),
+                mock(EntityManager.class),
+                meterRegistry
+        );
+
+        tenantId = UUID.randomUUID();
+        tenant = new Tenant().withId(tenantId);
+        when(currentUserService.getCurrentTenantId()).thenReturn(tenantId);
+        when(mapper.toDTO(any())).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            return new ReservationDTO(reservation.getId(), reservation.getDate(), reservation.getStartTime(), reservation.getStatus(), List.of());
+        });
+    }
+
+    @Test
+    void shouldReturnCursorWhenMoreRowsExist() {
+        var first = reservation(LocalTime.of(9, 0));
+        var second = reservation(LocalTime.of(10, 0));
+        when(repository.findPage(eq(tenantId), any(), any(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+
+        var page = service.findAll(null, null, 1);
+
+        assertEquals(1, page.items().size());
+        assertEquals(first.getId(), page.items().getFirst().id());
+        assertEquals(ReservationCursor.after(first), ReservationCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void shouldSeekPastCursorWithFilters() {
+        var last = reservation(LocalTime.of(9, 0));
+        var cursor = ReservationCursor.after(last).encode();
+        var filter = new ReservationFilter(DATE, DATE.plusDays(7), Set.of(Status.CONFIRMED));
+        when(repository.findPageAfter(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        var page = service.findAll(filter, cursor, 10);
+
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextCursor());
+        verify(repository).findPageAfter(tenantId, DATE, DATE.plusDays(7), EnumSet.of(Status.CONFIRMED),
+                DATE, LocalTime.of(9, 0), last.getId(), Limit.of(11));
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(null, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(null, null, ReservationServiceImpl.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void shouldTimeRejectedBookings() {
+        var write = new ReservationWrite(DATE, LocalTime.of(9, 0), Set.of(UUID.randomUUID()));
+        when(mapper.toEntity(eq(write), any())).thenReturn(reservation(LocalTime.of(9, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> service.create(write));
+
+        assertEquals(1, meterRegistry.get("reservation.create").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void shouldLockAndValidateWhenReactivatingReservation() {
+        var existing = reservation(LocalTime.of(9, 0));
+        existing.setStatus(Status.CANCELLED);
+        when(repository.findByIdAndTenantId(existing.getId(), tenantId)).thenReturn(Optional.of(existing));
+
+        service.updateStatus(existing.getId(), Status.CONFIRMED);
+
+        var inOrder = inOrder(reservationLock, validator, repository);
+        inOrder.verify(reservationLock).lock(tenantId, DATE);
+        inOrder.verify(validator).validateReservation(existing, existing.getId());
+        inOrder.verify(repository).save(existing);
+        assertEquals(Status.CONFIRMED, existing.getStatus());
+    }
+
+    @Test
+    void shouldKeepStatusWhenReactivatedReservationNoLongerFits() {
+        var existing = reservation(LocalTime.of(9, 0));
+        existing.setStatus(Status.CANCELLED);
+        when(repository.findByIdAndTenantId(existing.getId(), tenantId)).thenReturn(Optional.of(existing));
+        doThrow(new IllegalArgumentException("Time slot already booked"))
+                .when(validator).validateReservation(existing, existing.getId());
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(existing.getId(), Status.PENDING));
+
+        assertEquals(Status.CANCELLED, existing.getStatus());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void shouldNotValidateWhenReleasingSlot() {
+        var existing = reservation(LocalTime.of(9, 0));
+        when(repository.findByIdAndTenantId(existing.getId(), tenantId)).thenReturn(Optional.of(existing));
+
+        service.updateStatus(existing.getId(), Status.CANCELLED);
+
+        verifyNoInteractions(reservationLock, validator);
+        verify(repository).save(existing);
+    }
+
+    private Reservation reservation(LocalTime start) {
+        var reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setDate(DATE);
+        reservation.setStartTime(start);
+        reservation.setStatus(Status.CONFIRMED);
+        reservation.setTenant(tenant);
+        return reservation;
+    }
+}
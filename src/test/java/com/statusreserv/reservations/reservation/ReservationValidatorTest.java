@@ -0,0 +1,137 @@
+package com.statusreserv.reservations.reservation;
+
+import com.statusreserv.reservations.dto.reservation.ReservationRangeDTO;
+import com.statusreserv.reservations.model.reservation.Reservation;
+import com.statusreserv.reservations.model.reservation.ReservationServiceProvided;
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ReservationRepository;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import com.statusreserv.reservations.service.availability.AvailabilityIndex;
+import com.statusreserv.reservations.service.reservation.ReservationValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ReservationValidatorTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+
+    private ReservationRepository reservationRepository;
+    private ScheduleRepository scheduleRepository;
+    private ReservationValidator validator;
+    private Tenant tenant;
+    private List<Reservation> existing;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        validator = new ReservationValidator(reservationRepository, scheduleRepository);
+
+        tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+        existing = new ArrayList<>();
+
+        schedule = new Schedule();
+        schedule.setDayOfWeek(DayOfWeek.MONDAY);
+        schedule.setScheduleTime(Set.of(
+                new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new ScheduleTime(LocalTime.of(13, 0), LocalTime.of(18, 0))
+        ));
+        when(scheduleRepository.findByTenantIdAndDayOfWeek(tenant.getId(), DayOfWeek.MONDAY)).thenReturn(List.of(schedule));
+        when(reservationRepository.findBusyRanges(tenant.getId(), MONDAY, MONDAY, AvailabilityIndex.BLOCKING_STATUSES))
+                .thenAnswer(invocation -> existing.stream()
+                        .map(r -> new ReservationRangeDTO(r.getId(), r.getDate(), r.getStartTime(), r.getEndTime()))
+                        .toList());
+    }
+
+    @Test
+    void validateReservation_acceptsFreeTimeWithSingleOverlapProbe() {
+        assertThatCode(() -> validator.validateReservation(reservation(LocalTime.of(10, 0), LocalTime.of(11, 0)), null))
+                .doesNotThrowAnyException();
+
+        verify(reservationRepository).existsOverlapping(
+                tenant.getId(), MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0), AvailabilityIndex.BLOCKING_STATUSES, null
+        );
+        verifyNoMoreInteractions(reservationRepository);
+    }
+
+    @Test
+    void validateReservation_rejectsOverlapUnlessItIsTheIgnoredReservation() {
+        var bookedId = UUID.randomUUID();
+        var moved = reservation(LocalTime.of(9, 30), LocalTime.of(10, 30));
+        when(reservationRepository.existsOverlapping(eq(tenant.getId()), eq(MONDAY), any(), any(), any(), isNull()))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> validator.validateReservation(moved, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("overlaps");
+        assertThatCode(() -> validator.validateReservation(moved, bookedId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void validateReservation_rejectsTimeOutsideWorkingHours() {
+        assertThatThrownBy(() -> validator.validateReservation(reservation(LocalTime.of(11, 30), LocalTime.of(13, 30)), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outside working hours");
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void validateReservation_withCapacity_acceptsOverlapUntilCapacityIsReached() {
+        schedule.setCapacity(2);
+        existing.add(reservation(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+        assertThatCode(() -> validator.validateReservation(reservation(LocalTime.of(9, 30), LocalTime.of(10, 30)), null))
+                .doesNotThrowAnyException();
+
+        existing.add(reservation(LocalTime.of(9, 45), LocalTime.of(11, 0)));
+        assertThatThrownBy(() -> validator.validateReservation(reservation(LocalTime.of(9, 30), LocalTime.of(10, 30)), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("full capacity");
+        assertThatCode(() -> validator.validateReservation(reservation(LocalTime.of(11, 0), LocalTime.of(12, 0)), null))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void validateReservation_anyScheduleWithCapacity_validatesWholeDayByCapacity() {
+        var parallel = new Schedule();
+        parallel.setDayOfWeek(DayOfWeek.MONDAY);
+        parallel.setCapacity(3);
+        parallel.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(18, 0), LocalTime.of(20, 0))));
+        when(scheduleRepository.findByTenantIdAndDayOfWeek(tenant.getId(), DayOfWeek.MONDAY)).thenReturn(List.of(schedule, parallel));
+        existing.add(reservation(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        assertThatThrownBy(() -> validator.validateReservation(reservation(LocalTime.of(10, 30), LocalTime.of(11, 30)), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("full capacity");
+        assertThatCode(() -> validator.validateReservation(reservation(LocalTime.of(11, 0), LocalTime.of(12, 0)), null))
+                .doesNotThrowAnyException();
+        verify(reservationRepository, never()).existsOverlapping(any(), any(), any(), any(), any(), any());
+    }
+
+    private Reservation reservation(LocalTime start, LocalTime end) {
+        var reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setTenant(tenant);
+        reservation.setDate(MONDAY);
+        reservation.setStartTime(start);
+        reservation.setEndTime(end);
+        reservation.setReservationServices(List.of(new ReservationServiceProvided().withReservation(reservation)));
+        return reservation;
+    }
+}
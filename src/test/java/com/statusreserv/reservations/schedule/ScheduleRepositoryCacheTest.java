@@ -0,0 +1,93 @@
+package com.statusreserv.reservations.schedule;
+
+import com.statusreserv.reservations.model.schedule.Schedule;
+import com.statusreserv.reservations.model.schedule.ScheduleTime;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.repository.ScheduleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that schedules are kept in the second-level and query caches. Writes must commit for
+ * the read-write regions to be populated, so the test runs without a surrounding transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleRepositoryCacheTest {
+
+    @Autowired
+    private ScheduleRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private UUID tenantId;
+    private UUID scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        var tenant = new TransactionTemplate(transactionManager)
+                .execute(status -> entityManager.persist(new Tenant().withName("Tenant")));
+        tenantId = tenant.getId();
+
+        var schedule = new Schedule();
+        schedule.setTenant(tenant);
+        schedule.setDayOfWeek(DayOfWeek.MONDAY);
+        schedule.setScheduleTime(Set.of(new ScheduleTime(LocalTime.of(9, 0), LocalTime.of(12, 0))));
+        scheduleId = repository.save(schedule).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void committedScheduleIsStoredInItsRegion() {
+        assertThat(entityManagerFactory.getCache().contains(Schedule.class, scheduleId)).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Tenant.class, tenantId)).isTrue();
+    }
+
+    @Test
+    void weeklyScheduleQueryIsCached() {
+        var schedules = repository.findWithTimesByTenantIdAndDayOfWeekIn(tenantId, EnumSet.of(DayOfWeek.MONDAY));
+
+        assertThat(schedules).singleElement().satisfies(schedule -> assertThat(schedule.getScheduleTime()).hasSize(1));
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+    }
+
+    @Test
+    void regionStatisticsAreExposedPerRegion() {
+        assertThat(statistics.getSecondLevelCacheRegionNames())
+                .contains("schedules", "schedule-times", "service-provided", "tenants");
+        assertThat(statistics.getDomainDataRegionStatistics("schedules")).isNotNull();
+    }
+}
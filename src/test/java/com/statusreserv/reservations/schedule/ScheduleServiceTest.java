@@ -8,12 +8,14 @@ import com.statusreserv.reservations.model.schedule.Schedule;
 import com.statusreserv.reservations.model.tenant.Tenant;
 import com.statusreserv.reservations.repository.ScheduleRepository;
 import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.schedule.ScheduleChangedEvent;
 import com.statusreserv.reservations.service.schedule.ScheduleService;
 import com.statusreserv.reservations.service.schedule.ScheduleServiceImpl;
 import com.statusreserv.reservations.service.schedule.ScheduleValidator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -32,6 +34,7 @@ class ScheduleServiceTest {
     private ScheduleService service;
     private CurrentUserService currentUserService;
     private ScheduleValidator validator;
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setup() {
@@ -39,7 +42,8 @@ class ScheduleServiceTest {
         mapper = mock(ScheduleMapper.class);
         currentUserService = mock(CurrentUserService.class);
         validator = mock(ScheduleValidator.class);
-        service = new ScheduleServiceImpl(repository, mapper, currentUserService, validator);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new ScheduleServiceImpl(repository, mapper, currentUserService, validator, eventPublisher);
     }
 
     @Test
@@ -48,7 +52,7 @@ class ScheduleServiceTest {
         schedule.setId(UUID.randomUUID());
 
         when(repository.findAll()).thenReturn(List.of(schedule));
-        when(mapper.toDTO(schedule)).thenReturn(new ScheduleDTO(UUID.randomUUID(), DayOfWeek.MONDAY, Set.of()));
+        when(mapper.toDTO(schedule)).thenReturn(new ScheduleDTO(UUID.randomUUID(), DayOfWeek.MONDAY, Set.of(), 1));
 
         List<ScheduleDTO> result = service.findAll();
 
@@ -66,7 +70,7 @@ class ScheduleServiceTest {
 
     @Test
     void shouldCreateScheduleSuccessfully() {
-        ScheduleWrite write = new ScheduleWrite(DayOfWeek.FRIDAY, Set.of(new ScheduleTimeWrite(LocalTime.of(8, 0), LocalTime.of(12, 0))));
+        ScheduleWrite write = new ScheduleWrite(DayOfWeek.FRIDAY, Set.of(new ScheduleTimeWrite(LocalTime.of(8, 0), LocalTime.of(12, 0))), 1);
         Schedule schedule = new Schedule();
         schedule.setId(UUID.randomUUID());
         schedule.setTenant(new Tenant());
@@ -91,7 +95,8 @@ class ScheduleServiceTest {
         Tenant tenant = new Tenant();
         ScheduleWrite write = new ScheduleWrite(
                 DayOfWeek.SUNDAY,
-                Set.of(new ScheduleTimeWrite(LocalTime.of(9, 0), LocalTime.of(11, 0)))
+                Set.of(new ScheduleTimeWrite(LocalTime.of(9, 0), LocalTime.of(11, 0))),
+                2
         );
 
         when(repository.findByIdAndTenantId(id, tenant.getId())).thenReturn(Optional.of(existing));
@@ -116,6 +121,7 @@ class ScheduleServiceTest {
         service.delete(id);
 
         verify(repository, times(1)).deleteByIdAndTenantId(id, tenantId);
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(tenantId));
     }
 
     @Test
@@ -0,0 +1,80 @@
+package com.statusreserv.reservations.security;
+
+import com.statusreserv.reservations.config.security.PrincipalCache;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.model.user.UserRole;
+import com.statusreserv.reservations.repository.UserRepository;
+import com.statusreserv.reservations.service.auth.TokensRevokedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache cache;
+    private UserAuth user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PrincipalCache(userRepository, 100, Duration.ofMinutes(5), meterRegistry);
+
+        user = new UserAuth();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(UserRole.USER);
+        user.setTenant(new Tenant().withId(UUID.randomUUID()));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        var first = cache.get(EMAIL);
+        var second = cache.get(EMAIL);
+
+        assertThat(first).isPresent();
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void evictedPrincipalIsReloaded() {
+        cache.get(EMAIL);
+        user.setTokenVersion(1);
+
+        cache.evict(EMAIL);
+
+        assertThat(cache.get(EMAIL)).get().satisfies(principal -> assertThat(principal.tokenVersion()).isEqualTo(1));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void revokedTokensEvictPrincipal() {
+        cache.get(EMAIL);
+
+        cache.onTokensRevoked(new TokensRevokedEvent(EMAIL));
+        cache.get(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void unknownUserIsEmpty() {
+        assertThat(cache.get("unknown@example.com")).isEmpty();
+    }
+}
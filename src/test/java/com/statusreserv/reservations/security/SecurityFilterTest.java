@@ -0,0 +1,110 @@
+package com.statusreserv.reservations.security;
+
+import com.statusreserv.reservations.config.security.AuthenticatedUser;
+import com.statusreserv.reservations.config.security.PrincipalCache;
+import com.statusreserv.reservations.config.security.SecurityFilter;
+import com.statusreserv.reservations.config.security.TokenProperties;
+import com.statusreserv.reservations.config.security.TokenService;
+import com.statusreserv.reservations.model.tenant.Tenant;
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.model.user.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SecurityFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private PrincipalCache principalCache;
+    private TokenService tokenService;
+    private SecurityFilter filter;
+    private UserAuth user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = mock(PrincipalCache.class);
+        tokenService = new TokenService(new TokenProperties("test-secret", "current", Map.of()), new SimpleMeterRegistry());
+        filter = new SecurityFilter(tokenService, principalCache);
+        ReflectionTestUtils.setField(filter, "claimsPrincipal", true);
+        ReflectionTestUtils.setField(filter, "checkVersion", true);
+
+        user = new UserAuth();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(UserRole.ADMIN);
+        user.setTenant(new Tenant().withId(UUID.randomUUID()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTokenAuthenticates() throws Exception {
+        var token = tokenService.generateToken(user);
+        current(AuthenticatedUser.of(user));
+
+        filter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void revokedTokenIsRejected() throws Exception {
+        var token = tokenService.generateToken(user);
+        user.setTokenVersion(1);
+        current(AuthenticatedUser.of(user));
+
+        filter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void tokenOfChangedRoleIsRejected() throws Exception {
+        var token = tokenService.generateToken(user);
+        user.setRole(UserRole.USER);
+        current(AuthenticatedUser.of(user));
+
+        filter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void tokenOfChangedTenantIsRejected() throws Exception {
+        var token = tokenService.generateToken(user);
+        user.setTenant(new Tenant().withId(UUID.randomUUID()));
+        current(AuthenticatedUser.of(user));
+
+        filter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void current(AuthenticatedUser principal) {
+        when(principalCache.get(EMAIL)).thenReturn(Optional.of(principal));
+    }
+
+    private void filter(String token) throws Exception {
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
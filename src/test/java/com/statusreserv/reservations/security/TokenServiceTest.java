@@ -0,0 +1,111 @@
+package com.statusreserv.reservations.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.statusreserv.reservations.config.security.TokenProperties;
+import com.statusreserv.reservations.config.security.TokenService;
+import com.statusreserv.reservations.model.user.UserAuth;
+import com.statusreserv.reservations.model.user.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenServiceTest {
+
+    private static final String ISSUER = "auth-api";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenService tokenService;
+    private UserAuth user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = new TokenService(
+                new TokenProperties("current-secret", "current", Map.of("previous", "previous-secret")), meterRegistry);
+
+        user = new UserAuth();
+        user.setId(UUID.randomUUID());
+        user.setEmail("user@example.com");
+        user.setRole(UserRole.USER);
+    }
+
+    @Test
+    void tokenOfUserWithoutTenantHasNoTenantClaim() {
+        var token = tokenService.generateToken(user);
+
+        assertThat(tokenService.verify(token).flatMap(tokenService::getPrincipal)).get()
+                .satisfies(principal -> {
+                    assertThat(principal.email()).isEqualTo("user@example.com");
+                    assertThat(principal.tenantId()).isNull();
+                });
+    }
+
+    @Test
+    void tokenSignedWithCurrentKeyIsValid() {
+        var token = tokenService.generateToken(user);
+
+        assertThat(tokenService.verify(token)).get()
+                .satisfies(jwt -> assertThat(jwt.getKeyId()).isEqualTo("current"));
+        assertThat(validations("valid")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenSignedWithRetiredKeyIsStillValid() {
+        var token = sign("previous", "previous-secret", Instant.now().plusSeconds(60));
+
+        assertThat(tokenService.verify(token)).isPresent();
+        assertThat(validations("valid")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenWithUnknownKeyIdIsRejected() {
+        var token = sign("unknown", "current-secret", Instant.now().plusSeconds(60));
+
+        assertThat(tokenService.verify(token)).isEmpty();
+        assertThat(validations("invalid")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenSignedWithWrongSecretIsRejected() {
+        var token = sign("current", "previous-secret", Instant.now().plusSeconds(60));
+
+        assertThat(tokenService.verify(token)).isEmpty();
+        assertThat(validations("invalid")).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        var token = sign("current", "current-secret", Instant.now().minusSeconds(60));
+
+        assertThat(tokenService.verify(token)).isEmpty();
+        assertThat(validations("invalid")).isEqualTo(1);
+        assertThat(validations("valid")).isZero();
+    }
+
+    @Test
+    void missingSecretFailsStartup() {
+        assertThatThrownBy(() -> new TokenService(new TokenProperties(" ", "current", Map.of()), meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sign(String keyId, String secret, Instant expiresAt) {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withKeyId(keyId)
+                .withSubject("user@example.com")
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(secret));
+    }
+
+    private long validations(String outcome) {
+        return meterRegistry.get("auth.token.validation").tag("outcome", outcome).timer().count();
+    }
+}
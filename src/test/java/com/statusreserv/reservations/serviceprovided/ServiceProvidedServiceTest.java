@@ -0,0 +1,99 @@
+package com.statusreserv.reservations.serviceprovided;
+
+import com.statusreserv.reservations.dto.service.ServiceProvidedDTO;
+import com.statusreserv.reservations.mapper.ServiceProvidedMapper;
+import com.statusreserv.reservations.repository.ServiceProvidedRepository;
+import com.statusreserv.reservations.repository.service.ServiceProvided;
+import com.statusreserv.reservations.service.auth.CurrentUserService;
+import com.statusreserv.reservations.service.service.ServiceProvidedChangedEvent;
+import com.statusreserv.reservations.service.service.ServiceProvidedServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ServiceProvidedServiceTest {
+
+    private ServiceProvidedRepository repository;
+    private ServiceProvidedMapper mapper;
+    private CurrentUserService currentUserService;
+    private ApplicationEventPublisher eventPublisher;
+    private ServiceProvidedServiceImpl service;
+    private UUID tenantId;
+    private ServiceProvided haircut;
+    private ServiceProvided shave;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ServiceProvidedRepository.class);
+        mapper = mock(ServiceProvidedMapper.class);
+        currentUserService = mock(CurrentUserService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new ServiceProvidedServiceImpl(repository, mapper, currentUserService, eventPublisher);
+
+        tenantId = UUID.randomUUID();
+        haircut = serviceProvided("Haircut", 30);
+        shave = serviceProvided("Shave", 15);
+        when(currentUserService.getCurrentTenantId()).thenReturn(tenantId);
+    }
+
+    @Test
+    void reads_areScopedToTheCurrentTenant() {
+        when(mapper.toDTO(any())).thenAnswer(invocation -> {
+            ServiceProvided s = invocation.getArgument(0);
+            return new ServiceProvidedDTO(s.getId(), s.getName(), s.getDescription(), s.getPrice(), s.getDurationMinutes());
+        });
+
+        var ids = Set.of(haircut.getId(), UUID.randomUUID());
+        when(repository.findByTenantId(tenantId)).thenReturn(List.of(haircut, shave));
+        when(repository.findByIdAndTenantId(shave.getId(), tenantId)).thenReturn(Optional.of(shave));
+        when(repository.findByIdInAndTenantId(ids, tenantId)).thenReturn(List.of(haircut));
+
+        assertThat(service.findAll()).extracting(ServiceProvidedDTO::name).containsExactly("Haircut", "Shave");
+        assertThat(service.findById(shave.getId()).getName()).isEqualTo("Shave");
+        assertThat(service.findByIdIn(ids)).extracting(ServiceProvided::getName).containsExactly("Haircut");
+        assertThat(service.findByIdIn(Set.of())).isEmpty();
+        assertThatThrownBy(() -> service.findById(UUID.randomUUID())).isInstanceOf(EntityNotFoundException.class);
+
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void delete_publishesServiceProvidedChanged() {
+        when(repository.findByIdAndTenantId(haircut.getId(), tenantId)).thenReturn(Optional.of(haircut));
+
+        service.delete(haircut.getId());
+
+        verify(repository).delete(haircut);
+        verify(eventPublisher).publishEvent(new ServiceProvidedChangedEvent(tenantId));
+    }
+
+    @Test
+    void delete_rejectsServiceOfAnotherTenant() {
+        var id = UUID.randomUUID();
+        when(repository.findByIdAndTenantId(id, tenantId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.delete(id)).isInstanceOf(EntityNotFoundException.class);
+        verify(repository, never()).delete(any());
+        verify(repository, never()).deleteById(any());
+    }
+
+    private ServiceProvided serviceProvided(String name, int durationMinutes) {
+        var serviceProvided = new ServiceProvided();
+        serviceProvided.setId(UUID.randomUUID());
+        serviceProvided.setName(name);
+        serviceProvided.setPrice(BigDecimal.TEN);
+        serviceProvided.setDurationMinutes(durationMinutes);
+        return serviceProvided;
+    }
+}